@@ -1,12 +1,20 @@
 package org.eolang.maven.transpiler.medium2target;
 
+import org.eolang.maven.transpiler.mediumcodemodel.EOCommonSubexpressions;
+import org.eolang.maven.transpiler.mediumcodemodel.EOConstantFolding;
+import org.eolang.maven.transpiler.mediumcodemodel.EOPurityAnalysis;
 import org.eolang.maven.transpiler.mediumcodemodel.EOSourceFile;
+import org.eolang.maven.transpiler.mediumcodemodel.EOStrictnessAnalysis;
 import org.eolang.maven.transpiler.mediumcodemodel.EOTargetFile;
 
 import java.util.ArrayList;
 
 public class Medium2TargetTranspiler {
     public static ArrayList<EOTargetFile> transpile(EOSourceFile file) {
+        EOConstantFolding.fold(file);
+        EOCommonSubexpressions.eliminate(file);
+        EOStrictnessAnalysis.analyze(file);
+        EOPurityAnalysis.analyze(file);
         return file.transpile(null);
     }
 }
@@ -4,12 +4,14 @@ import com.google.googlejavaformat.java.Formatter;
 import com.google.googlejavaformat.java.FormatterException;
 import org.ainslec.picocog.PicoWriter;
 import org.eolang.EOarray;
+import org.eolang.core.EOCallSite;
 import org.eolang.core.EOObject;
 import org.eolang.maven.transpiler.medium2target.TranslationCommons;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.Set;
 
 public class EOAbstraction extends EOSourceEntity {
     private final Optional<String> instanceName;
@@ -21,6 +23,24 @@ public class EOAbstraction extends EOSourceEntity {
     private ArrayList<EOApplication> boundAttributes;
     private EOSourceEntity scope;
     private String anonymousName;
+    /***
+     * Target names of attributes accessed through the call sites declared by this (package-scope) abstraction
+     */
+    private final ArrayList<String> callSites = new ArrayList<>();
+    /***
+     * Names of the free attributes that are always demanded when this abstraction is dataized
+     * (see {@link EOStrictnessAnalysis})
+     */
+    private Set<String> strictFreeAttributes = Set.of();
+    /***
+     * Are references to the free attributes of this abstraction transpiled to local variables at the moment?
+     * (i.e., is a tail-recursive decoratee of this abstraction being transpiled to a loop)
+     */
+    private boolean rebindingFreeAttributes = false;
+    /***
+     * Is the data behind the objects of this abstraction memoized (see {@link EOPurityAnalysis})?
+     */
+    private boolean pure = false;
 
     public EOAbstraction(String xmlName, Optional<String> instanceName, ArrayList<EOInputAttribute> freeAttributes) {
         this.xmlName = xmlName;
@@ -131,6 +151,57 @@ public class EOAbstraction extends EOSourceEntity {
         return result;
     }
 
+    /***
+     * Finds the attribute {@code name} of this abstraction that can be applied to {@code arity} arguments
+     * @return The name of the Java method the attribute is transpiled to, or empty if there is no such attribute
+     */
+    public Optional<String> findAttributeMethod(String name, int arity) {
+        Optional<EOInputAttribute> freeAttribute = freeAttributes.stream().filter(a -> a.getName().equals(name)).findAny();
+        if (freeAttribute.isPresent()) {
+            return arity == 0 ? Optional.of(freeAttribute.get().getTargetName()) : Optional.empty();
+        }
+        Optional<EOApplication> boundAttribute = boundAttributes.stream().filter(a -> a.getName().orElse("").equals(name)).findAny();
+        if (boundAttribute.isEmpty() || name.equals("@")) {
+            return Optional.empty();
+        }
+        EOAbstraction wrapped = boundAttribute.get().getWrappedAbstraction();
+        int fixed = 0;
+        boolean vararg = false;
+        if (wrapped != null) {
+            fixed = wrapped.freeAttributes.size();
+            vararg = wrapped.freeAttributes.stream().anyMatch(EOInputAttribute::isVararg);
+        }
+        if (vararg ? arity >= fixed - 1 : arity == fixed) {
+            return Optional.of("EO" + name);
+        }
+        return Optional.empty();
+    }
+
+    public void setStrictFreeAttributes(Set<String> strictFreeAttributes) {
+        this.strictFreeAttributes = Set.copyOf(strictFreeAttributes);
+    }
+
+    /***
+     * Is the free attribute at the {@code position} strict (i.e., can the argument bound to it be evaluated eagerly)?
+     */
+    public boolean isStrict(int position) {
+        return position < freeAttributes.size()
+                && !freeAttributes.get(position).isVararg()
+                && strictFreeAttributes.contains(freeAttributes.get(position).getName());
+    }
+
+    public void setPure(boolean pure) {
+        this.pure = pure;
+    }
+
+    void setRebindingFreeAttributes(boolean rebindingFreeAttributes) {
+        this.rebindingFreeAttributes = rebindingFreeAttributes;
+    }
+
+    boolean isRebindingFreeAttributes() {
+        return rebindingFreeAttributes;
+    }
+
     public void setAnonymousName(String anonymousName) {
         this.anonymousName = anonymousName;
     }
@@ -183,6 +254,7 @@ public class EOAbstraction extends EOSourceEntity {
         /* import the base language objects */
         w.writeln(String.format("import org.eolang.*;"));
         w.writeln(String.format("import org.eolang.core.*;"));
+        w.writeln(String.format("import java.lang.invoke.MethodHandle;"));
         w.writeln(String.format("import java.util.function.Supplier;"));
         w.writeln("");
     }
@@ -191,6 +263,12 @@ public class EOAbstraction extends EOSourceEntity {
         if (getScopeType().equals("package")) {
             TranslationCommons.bigComment(w, String.format("Package-scope object '%s'.", this.instanceName.get()));
             w.writeln_r(String.format("public class %s extends %s {", this.targetName.get(), EOObject.class.getSimpleName()));
+            PicoWriter callSitesWriter = w.createDeferredWriter();
+            transpileClassContents(w);
+            transpileCallSites(callSitesWriter);
+            w.writeln_l("}");
+            w.writeln("");
+            return;
         } else if (getScopeType().equals("attribute")) {
             TranslationCommons.bigComment(w, (getNestedChain() + ".").replaceFirst("a", "A").split("\n"));
             if (getScope() instanceof EOAbstraction && ((EOAbstraction) getScope()).anonymousName!=null) {
@@ -220,6 +298,7 @@ public class EOAbstraction extends EOSourceEntity {
         transpileConstructor(w);
         transpileParentObject(w);
         transpileDecoratee(w);
+        transpilePurity(w);
         transpileFreeAttrsGetters(w);
         if (boundAttributes.size() > 0) {
             transpileApplications(w);
@@ -229,6 +308,36 @@ public class EOAbstraction extends EOSourceEntity {
         }
     }
 
+    /***
+     * Transpiles the call sites of dynamic attribute accesses made by this object and its nested objects
+     */
+    private void transpileCallSites(PicoWriter w) {
+        for (int i = 0; i < callSites.size(); i++) {
+            w.writeln(String.format(
+                    "private static final MethodHandle %s = %s.attribute(\"%s\");",
+                    callSiteField(i), EOCallSite.class.getSimpleName(), callSites.get(i)
+            ));
+        }
+    }
+
+    private static String callSiteField(int index) {
+        return String.format("_callSite$%d", index);
+    }
+
+    /***
+     * Registers a call site that dynamically accesses the {@code attribute} attribute.
+     * Call sites are kept in static fields of the package-scope object, since nested objects are transpiled
+     * to inner classes that can't declare static fields
+     * @return The name of the field keeping the call site
+     */
+    public String registerCallSite(String attribute) {
+        if (!getScopeType().equals("package")) {
+            return ((EOAbstraction) scope).registerCallSite(attribute);
+        }
+        callSites.add(attribute);
+        return callSiteField(callSites.size() - 1);
+    }
+
     private void transpileFreeAttributes(PicoWriter w) {
         for (EOInputAttribute attr : freeAttributes) {
             attr.transpile(w);
@@ -319,6 +428,20 @@ public class EOAbstraction extends EOSourceEntity {
         }
     }
 
+    /***
+     * Transpiles the declaration of purity of this object (only pure objects declare it)
+     */
+    private void transpilePurity(PicoWriter w) {
+        if (pure) {
+            TranslationCommons.bigComment(w, "Declares that this object is pure (so the data behind it is memoized).");
+            w.writeln("@Override");
+            w.writeln_r("protected boolean _isPure() {");
+            w.writeln("return true;");
+            w.writeln_l("}");
+            w.writeln("");
+        }
+    }
+
     private void transpileDecoratee(PicoWriter w) {
         Optional<EOApplication> decoratee = boundAttributes.stream().filter(o -> o.getName().orElse("").equals("@")).findFirst();
         if (decoratee.isPresent()) {
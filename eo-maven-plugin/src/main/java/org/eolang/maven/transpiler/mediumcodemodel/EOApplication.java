@@ -2,11 +2,15 @@ package org.eolang.maven.transpiler.mediumcodemodel;
 
 import org.ainslec.picocog.PicoWriter;
 import org.eolang.EOarray;
+import org.eolang.core.EOCallSite;
 import org.eolang.core.EOObject;
 import org.eolang.core.EOThunk;
 import org.eolang.maven.transpiler.medium2target.TranslationCommons;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Optional;
 
 /***
@@ -69,6 +73,12 @@ public class EOApplication extends EOSourceEntity {
      */
     private ArrayList<EOAbstraction> anonymousObjects = new ArrayList<>();
 
+    /***
+     * Is the static type of this application being inferred right now?
+     * (used to break cycles between bound attributes referencing each other)
+     */
+    private boolean inferringStaticType = false;
+
 
     public EOApplication(boolean isDotNotation, String appliedObject, Optional<String> name, Optional<EOData> data) {
         this.isDotNotation = isDotNotation;
@@ -129,6 +139,17 @@ public class EOApplication extends EOSourceEntity {
         this.arguments = arguments;
     }
 
+    public Optional<EOData> getData() {
+        return data;
+    }
+
+    /***
+     * Replaces this application with the {@code data} it always produces (see {@link EOConstantFolding})
+     */
+    void fold(EOData data) {
+        this.data = Optional.of(data);
+    }
+
     public Optional<String> getName() {
         return name;
     }
@@ -288,7 +309,12 @@ public class EOApplication extends EOSourceEntity {
                 }
             }
 
-            transpileCachingRoutine(w, cachedFieldName, () -> transpileApplication(w));
+            if (isDecoratee && isTailRecursive()) {
+                transpileTailRecursiveDecoratee(w, cachedFieldName);
+            }
+            else {
+                transpileCachingRoutine(w, cachedFieldName, () -> transpileApplication(w));
+            }
         }
         w.writeln_l("}");
     }
@@ -321,7 +347,157 @@ public class EOApplication extends EOSourceEntity {
         }
     }
 
+    /***
+     * Is this application (the decoratee of its scope) tail-recursive?
+     * I.e., does it apply its scope to new arguments in a tail position (in a branch of an {@code if.},
+     * possibly a nested one), while referencing nothing but data, free attributes of the scope and objects
+     * declared outside of it? Such decoratees are transpiled to loops that rebind the free attributes of the scope
+     */
+    boolean isTailRecursive() {
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        return anonymousObjects.isEmpty()
+                && !abstractionScope.getFreeAttributes().isEmpty()
+                && abstractionScope.getFreeAttributes().stream().noneMatch(EOInputAttribute::isVararg)
+                && hasTailCall()
+                && isRebindable(abstractionScope);
+    }
+
+    /***
+     * Is this application a conditional (i.e., the {@code if} attribute of some object applied to two branches)?
+     */
+    private boolean isConditional() {
+        return isDotNotation && appliedObject.equals("if") && arguments.size() == 2;
+    }
+
+    /***
+     * Does this application apply its scope to all the free attributes of the scope?
+     */
+    private boolean isSelfApplication() {
+        if (isDotNotation || data.isPresent() || wrappedAbstraction != null) {
+            return false;
+        }
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        return abstractionScope.getXmlName().equals(appliedObject)
+                && arguments.size() == abstractionScope.getFreeAttributes().size();
+    }
+
+    /***
+     * Is this application a self-application or a conditional with a self-application in a tail position?
+     */
+    private boolean hasTailCall() {
+        return isSelfApplication() || isConditional() && (arguments.get(0).hasTailCall() || arguments.get(1).hasTailCall());
+    }
+
+    /***
+     * Can this application be evaluated with the free attributes of the {@code abstraction} bound to local variables?
+     * That is not the case if it references a parent object, an anonymous object or a bound attribute of the abstraction
+     * (these are bound to the instance of the abstraction rather than to the values of its free attributes)
+     */
+    private boolean isRebindable(EOAbstraction abstraction) {
+        if (scope != abstraction || wrappedAbstraction != null) {
+            return false;
+        }
+        if (data.isPresent()) {
+            return true;
+        }
+        if (appliedObject.equals("^")) {
+            return false;
+        }
+        if (isDotNotation && !getDotNotationBase().isRebindable(abstraction)) {
+            return false;
+        }
+        if (!isDotNotation && !appliedObject.contains(".") && !abstraction.getXmlName().equals(appliedObject)) {
+            boolean freeAttribute = abstraction.getFreeAttributes().stream().anyMatch(a -> a.getName().equals(appliedObject));
+            if (freeAttribute && !arguments.isEmpty()) {
+                return false;
+            }
+            if (!freeAttribute && abstraction.getBoundAttributes().stream().anyMatch(a -> a.getName().orElse("").equals(appliedObject))) {
+                return false;
+            }
+        }
+        return arguments.stream().allMatch(argument -> argument.isRebindable(abstraction));
+    }
+
+    /***
+     * Transpiles the tail-recursive decoratee (see {@link #isTailRecursive()}) to a loop.
+     * Each iteration binds the free attributes of the scope to its own local variables
+     * (so that the thunks created during the iteration capture the values of this iteration),
+     * and either finds the decoratee or rebinds the free attributes to the arguments of the self-application.
+     * Thus, the decoratee takes neither a stack frame nor an intermediate object per recursive application
+     */
+    private void transpileTailRecursiveDecoratee(PicoWriter w, String cachedFieldName) {
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        ArrayList<EOInputAttribute> freeAttributes = abstractionScope.getFreeAttributes();
+        w.writeln_r(String.format("if (%s == null) {", cachedFieldName));
+        for (EOInputAttribute attr : freeAttributes) {
+            w.writeln(String.format("%s %s = this.%s;", EOObject.class.getSimpleName(), reboundName(attr), attr.getTargetName()));
+        }
+        w.writeln_r("while (true) {");
+        for (EOInputAttribute attr : freeAttributes) {
+            w.writeln(String.format("%s %s = %s;", EOObject.class.getSimpleName(), attr.getTargetName(), reboundName(attr)));
+        }
+        abstractionScope.setRebindingFreeAttributes(true);
+        try {
+            transpileTailPosition(w, cachedFieldName);
+        } finally {
+            abstractionScope.setRebindingFreeAttributes(false);
+        }
+        w.writeln_l("}");
+        w.writeln_l("}");
+        w.writeln(String.format("return %s;", cachedFieldName));
+    }
+
+    /***
+     * Transpiles this application in a tail position of the loop the tail-recursive decoratee is transpiled to
+     */
+    private void transpileTailPosition(PicoWriter w, String cachedFieldName) {
+        if (isConditional() && hasTailCall()) {
+            w.write("if ((");
+            getDotNotationBase().transpileApplication(w, true);
+            w.writeln_r(")._getData().asBoolean()) {");
+            arguments.get(0).transpileTailPosition(w, cachedFieldName);
+            w.writeln_lr("} else {");
+            arguments.get(1).transpileTailPosition(w, cachedFieldName);
+            w.writeln_l("}");
+            return;
+        }
+        if (isSelfApplication()) {
+            EOAbstraction abstractionScope = (EOAbstraction) scope;
+            ArrayList<EOInputAttribute> freeAttributes = abstractionScope.getFreeAttributes();
+            for (int i = 0; i < arguments.size(); i++) {
+                w.write(String.format("%s = ", reboundName(freeAttributes.get(i))));
+                transpileArgument(w, Optional.of(abstractionScope), i, false);
+                w.writeln(";");
+            }
+            w.writeln("continue;");
+            return;
+        }
+        w.write(String.format("%s = ", cachedFieldName));
+        transpileApplication(w);
+        w.writeln(";");
+        w.writeln("break;");
+    }
+
+    /***
+     * The name of the local variable keeping the value the free attribute is bound to in the next iteration of the loop
+     * the tail-recursive decoratee is transpiled to
+     */
+    private static String reboundName(EOInputAttribute attr) {
+        return String.format("%s$next", attr.getTargetName());
+    }
+
     private void transpileApplication(PicoWriter w) {
+        transpileApplication(w, false);
+    }
+
+    /***
+     * Transpiles this application.
+     *
+     * @param dataized Is the object produced by this application certainly dataized once the application is evaluated?
+     *                 (the arguments of such applications bound to strict free attributes are evaluated eagerly,
+     *                 see {@link EOStrictnessAnalysis})
+     */
+    private void transpileApplication(PicoWriter w, boolean dataized) {
         // anonymous-abstraction based application
         if (name.isEmpty() && wrappedAbstraction != null) {
             w.write(String.format("new %s(%s)", wrappedAbstraction.getAnonymousName(), wrappedAbstraction.getArgsString()));
@@ -334,7 +510,7 @@ public class EOApplication extends EOSourceEntity {
         }
         // dot-notation based application
         if (isDotNotation) {
-            transpileDotNotationApplication(w);
+            transpileDotNotationApplication(w, dataized);
             return;
         }
         // parent access
@@ -342,42 +518,317 @@ public class EOApplication extends EOSourceEntity {
             w.write("_getParentObject()");
             return;
         }
+        // free attribute bound to a local variable (see transpileTailRecursiveDecoratee)
+        if (isFreeAttributeReference() && ((EOAbstraction) scope).isRebindingFreeAttributes()) {
+            w.write(String.format("EO%s", appliedObject));
+            return;
+        }
         // plain application
         w.write(getCorrectReference());
         w.write("(");
         if (arguments.size() > 0) {
-            transpileArgs(w);
+            transpileArgs(w, dataized ? getReferencedAbstraction() : Optional.empty(), false);
         }
         w.write(")");
     }
 
 
-    private void transpileDotNotationApplication(PicoWriter w) {
-        w.write("(");
-        getDotNotationBase().transpileApplication(w);
-        if (appliedObject.equals("^")) {
-            w.write(")._getParentObject()");
+    private void transpileDotNotationApplication(PicoWriter w, boolean dataized) {
+        // the operations of the standard data objects dataize their operands as soon as they are applied,
+        // and the branch a conditional chooses is dataized if the conditional is
+        boolean baseDataized = EOStrictnessAnalysis.dataizesReceiver(this);
+        boolean argumentsDataized = EOStrictnessAnalysis.dataizesBranches(this)
+                ? dataized
+                : EOStrictnessAnalysis.dataizesArguments(this);
+        Optional<Class<?>> baseType = getDotNotationBase().getStaticType();
+        Optional<String> attribute = baseType.flatMap(this::findStaticAttribute).map(Method::getName);
+        if (attribute.isEmpty() && !appliedObject.equals("^")) {
+            attribute = getDotNotationBase()
+                    .getReferencedPackageObject()
+                    .flatMap(object -> object.findAttributeMethod(appliedObject, arguments.size()));
         }
-        else {
-            w.write(")._getAttribute(");
-            w.write(String.format("\"EO%s\"", appliedObject));
+        if (attribute.isPresent()) {
+            // the attribute is known at compile time, so it is called directly
+            w.write("(");
+            if (baseType.isPresent() && getDotNotationBase().isBoundAttributeReference()) {
+                w.write(String.format("(%s) ", baseType.get().getCanonicalName()));
+            }
+            getDotNotationBase().transpileApplication(w, baseDataized);
+            w.write(String.format(").%s(", attribute.get()));
             if (arguments.size() > 0) {
-                w.write(", ");
-                transpileArgs(w);
+                transpileArgs(w, Optional.empty(), argumentsDataized);
             }
             w.write(")");
+            return;
+        }
+        if (appliedObject.equals("^")) {
+            w.write("(");
+            getDotNotationBase().transpileApplication(w);
+            w.write(")._getParentObject()");
+            return;
         }
+        // the attribute is resolved at runtime through an inline-caching call site
+        String callSite = ((EOAbstraction) scope).registerCallSite(String.format("EO%s", appliedObject));
+        w.write(String.format("%s.invoke(%s, ", EOCallSite.class.getSimpleName(), callSite));
+        getDotNotationBase().transpileApplication(w, baseDataized);
+        if (arguments.size() > 0) {
+            w.write(", ");
+            transpileArgs(w, Optional.empty(), argumentsDataized);
+        }
+        w.write(")");
     }
 
-    private void transpileArgs(PicoWriter w) {
+    /***
+     * Infers the runtime class of the base of this dot-notation application if the class is known at compile time
+     * and declares the applied attribute (i.e., if the attribute of a standard object is applied)
+     */
+    Optional<Class<?>> getReceiverType() {
+        return getDotNotationBase().getStaticType().filter(type -> findStaticAttribute(type).isPresent());
+    }
+
+    /***
+     * Infers the runtime class of the object produced by this application
+     * if the class is known at compile time (i.e., for data, arrays, standard objects,
+     * variable-length free attributes and attributes of these).
+     * @return The runtime class, or empty if the produced object is known at run time only.
+     */
+    private Optional<Class<?>> getStaticType() {
+        if (name.isEmpty() && wrappedAbstraction != null) {
+            return Optional.empty();
+        }
+        if (data.isPresent()) {
+            return Optional.of(data.get().getRuntimeType());
+        }
+        if (appliedObject.equals("^")) {
+            return Optional.empty();
+        }
+        if (isDotNotation) {
+            return getDotNotationBase()
+                    .getStaticType()
+                    .flatMap(this::findStaticAttribute)
+                    .map(Method::getReturnType)
+                    .filter(type -> type != EOObject.class);
+        }
+        if (appliedObject.contains(".")) {
+            if (appliedObject.equals("org.eolang.array")) {
+                return Optional.of(EOarray.class);
+            }
+            try {
+                Class<?> type = Class.forName(aliasToNormalForm(), false, EOApplication.class.getClassLoader());
+                return EOObject.class.isAssignableFrom(type) ? Optional.of(type) : Optional.empty();
+            } catch (ClassNotFoundException e) {
+                // some outer object that is not a part of the standard library
+                return Optional.empty();
+            }
+        }
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        if (abstractionScope.getXmlName().equals(appliedObject)) {
+            return Optional.empty();
+        }
+        Optional<EOInputAttribute> attr = abstractionScope.getFreeAttributes().stream().filter(a -> a.getName().equals(appliedObject)).findAny();
+        if (attr.isPresent()) {
+            return attr.get().isVararg() && arguments.isEmpty() ? Optional.of(EOarray.class) : Optional.empty();
+        }
+        Optional<EOApplication> boundAttribute = getReferencedBoundAttribute();
+        if (boundAttribute.isPresent() && !boundAttribute.get().inferringStaticType) {
+            boundAttribute.get().inferringStaticType = true;
+            try {
+                return boundAttribute.get().getStaticType();
+            } finally {
+                boundAttribute.get().inferringStaticType = false;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /***
+     * Finds the application-based bound attribute of the scope that this application references (if any)
+     */
+    Optional<EOApplication> getReferencedBoundAttribute() {
+        if (isDotNotation || data.isPresent() || wrappedAbstraction != null || appliedObject.contains(".") || !arguments.isEmpty()) {
+            return Optional.empty();
+        }
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        if (abstractionScope.getXmlName().equals(appliedObject)
+                || abstractionScope.getFreeAttributes().stream().anyMatch(a -> a.getName().equals(appliedObject))) {
+            return Optional.empty();
+        }
+        return abstractionScope
+                .getBoundAttributes()
+                .stream()
+                .filter(a -> a.getName().orElse("").equals(appliedObject))
+                .filter(a -> a.wrappedAbstraction == null)
+                .findAny();
+    }
+
+    /***
+     * Finds the abstraction declared in the same source file that this application instantiates (if any),
+     * i.e., the enclosing abstraction itself (a recursive reference), an abstraction-based bound attribute of the scope,
+     * or a package-scope object
+     */
+    Optional<EOAbstraction> getReferencedAbstraction() {
+        if (isDotNotation || data.isPresent() || wrappedAbstraction != null || appliedObject.contains(".") || appliedObject.equals("^")) {
+            return Optional.empty();
+        }
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        if (abstractionScope.getXmlName().equals(appliedObject)) {
+            return Optional.of(abstractionScope);
+        }
+        if (abstractionScope.getFreeAttributes().stream().anyMatch(a -> a.getName().equals(appliedObject))) {
+            return Optional.empty();
+        }
+        Optional<EOApplication> boundAttribute = abstractionScope
+                .getBoundAttributes()
+                .stream()
+                .filter(a -> a.getName().orElse("").equals(appliedObject))
+                .findAny();
+        if (boundAttribute.isPresent()) {
+            return Optional.ofNullable(boundAttribute.get().wrappedAbstraction);
+        }
+        return getReferencedPackageObject();
+    }
+
+    /***
+     * Finds the package-scope object declared in the same source file that this application instantiates (if any)
+     */
+    private Optional<EOAbstraction> getReferencedPackageObject() {
+        if (isDotNotation || data.isPresent() || wrappedAbstraction != null || appliedObject.contains(".") || appliedObject.equals("^")) {
+            return Optional.empty();
+        }
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        if (abstractionScope.getXmlName().equals(appliedObject)
+                || abstractionScope.getFreeAttributes().stream().anyMatch(a -> a.getName().equals(appliedObject))
+                || abstractionScope.getBoundAttributes().stream().anyMatch(a -> a.getName().orElse("").equals(appliedObject))) {
+            return Optional.empty();
+        }
+        while (!(abstractionScope.getScope() instanceof EOSourceFile)) {
+            abstractionScope = (EOAbstraction) abstractionScope.getScope();
+        }
+        return ((EOSourceFile) abstractionScope.getScope())
+                .getObjects()
+                .stream()
+                .filter(abstraction -> abstraction.getInstanceName().orElse("").equals(appliedObject))
+                .findFirst();
+    }
+
+    /***
+     * Does this application reference an application-based bound attribute of its scope?
+     * (such references are transpiled to the methods returning {@code EOObject},
+     * so their static type must be restored through a cast)
+     */
+    private boolean isBoundAttributeReference() {
+        return getReferencedBoundAttribute().isPresent();
+    }
+
+    /***
+     * Finds the public method of the {@code type} runtime class that declares the attribute this dot-notation based
+     * application accesses and that can be called with the arguments of the application.
+     */
+    Optional<Method> findStaticAttribute(Class<?> type) {
+        if (appliedObject.equals("^") || !Modifier.isPublic(type.getModifiers())) {
+            return Optional.empty();
+        }
+        String methodName = String.format("EO%s", appliedObject);
+        int arity = arguments.size();
+        Method[] candidates = Arrays.stream(type.getMethods())
+                .filter(method -> method.getName().equals(methodName))
+                .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                .filter(method -> EOObject.class.isAssignableFrom(method.getReturnType()))
+                .toArray(Method[]::new);
+        Optional<Method> fixedArity = Arrays.stream(candidates)
+                .filter(method -> !method.isVarArgs() && method.getParameterCount() == arity)
+                .filter(method -> Arrays.stream(method.getParameterTypes()).allMatch(EOApplication::acceptsAnyObject))
+                .findFirst();
+        if (fixedArity.isPresent()) {
+            return fixedArity;
+        }
+        return Arrays.stream(candidates)
+                .filter(method -> method.isVarArgs() && method.getParameterCount() - 1 <= arity)
+                .filter(method -> {
+                    Class<?>[] params = method.getParameterTypes();
+                    for (int i = 0; i < params.length - 1; i++) {
+                        if (!acceptsAnyObject(params[i])) {
+                            return false;
+                        }
+                    }
+                    return acceptsAnyObject(params[params.length - 1].getComponentType());
+                })
+                .findFirst();
+    }
+
+    /***
+     * Can any EO object (including thunks) be passed to the parameter of the {@code type} type?
+     */
+    private static boolean acceptsAnyObject(Class<?> type) {
+        return type.isAssignableFrom(EOObject.class);
+    }
+
+    /***
+     * Transpiles the arguments of the application of the {@code callee} abstraction.
+     * Arguments bound to the strict free attributes of the callee (see {@link EOStrictnessAnalysis}) are evaluated eagerly
+     * (the callee is given only if the application is certainly dataized)
+     *
+     * @param dataized Are the objects passed as the arguments certainly dataized once they are evaluated?
+     */
+    private void transpileArgs(PicoWriter w, Optional<EOAbstraction> callee, boolean dataized) {
         for (int i = 0; i < arguments.size(); i++) {
-            EOApplication arg = arguments.get(i);
-            w.write(String.format("new %s(() -> (", EOThunk.class.getSimpleName()));
-            arg.transpileApplication(w);
-            w.write("))");
+            transpileArgument(w, callee, i, dataized);
             if (i != arguments.size() - 1) {
                 w.write(", ");
             }
         }
     }
+
+    /***
+     * Transpiles the argument at the {@code position} of the application of the {@code callee} abstraction
+     *
+     * @param dataized Is the object passed as the argument certainly dataized once it is evaluated?
+     */
+    private void transpileArgument(PicoWriter w, Optional<EOAbstraction> callee, int position, boolean dataized) {
+        EOApplication arg = arguments.get(position);
+        if (callee.isPresent() && callee.get().isStrict(position)) {
+            arg.transpileApplication(w, true);
+        } else {
+            arg.transpileArg(w, dataized);
+        }
+    }
+
+    /***
+     * Transpiles this application as an argument of another application.
+     * Arguments are delayed with thunks, unless delaying them is unobservable,
+     * i.e., for data literals and references to free attributes (these are evaluated already).
+     * References to application-based bound attributes are passed without thunks once the attributes are cached
+     *
+     * @param dataized Is the object produced by this application certainly dataized once the thunk is forced?
+     */
+    private void transpileArg(PicoWriter w, boolean dataized) {
+        if (data.isPresent() || isFreeAttributeReference()) {
+            transpileApplication(w);
+            return;
+        }
+        Optional<EOApplication> boundAttribute = getReferencedBoundAttribute();
+        boolean cached = boundAttribute.isPresent() && !appliedObject.equals("@");
+        if (cached) {
+            String cachedFieldName = "this._cached" + boundAttribute.get().targetName.get();
+            w.write(String.format("(%s != null ? %s : ", cachedFieldName, cachedFieldName));
+        }
+        w.write(String.format("new %s(() -> (", EOThunk.class.getSimpleName()));
+        transpileApplication(w, dataized);
+        w.write("))");
+        if (cached) {
+            w.write(")");
+        }
+    }
+
+    /***
+     * Does this application reference a free attribute of the scope?
+     */
+    boolean isFreeAttributeReference() {
+        if (isDotNotation || data.isPresent() || wrappedAbstraction != null || appliedObject.contains(".") || !arguments.isEmpty()) {
+            return false;
+        }
+        EOAbstraction abstractionScope = (EOAbstraction) scope;
+        return !abstractionScope.getXmlName().equals(appliedObject)
+                && abstractionScope.getFreeAttributes().stream().anyMatch(a -> a.getName().equals(appliedObject));
+    }
 }
\ No newline at end of file
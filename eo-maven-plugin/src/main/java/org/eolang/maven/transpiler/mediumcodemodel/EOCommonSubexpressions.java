@@ -0,0 +1,236 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import org.ainslec.picocog.PicoWriter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/***
+ * Eliminates common subexpressions of abstractions (of a single source file).
+ * Structurally identical applications that are repeated within an abstraction and have no side effects
+ * (i.e., operations of the standard data objects applied to data, free attributes, pure application-based
+ * bound attributes (see {@link EOPurityAnalysis}), and other such operations) are evaluated once per object:
+ * each of them is hoisted into a synthetic application-based bound attribute {@code cse$N},
+ * which is cached like any other bound attribute, and all its occurrences reference the attribute instead.
+ * If one of the occurrences is an application-based bound attribute already, the others reference that attribute.
+ * <p>
+ * Tail-recursive decoratees are not changed, since the free attributes they reference are rebound
+ * on every iteration of the loops they are transpiled to.
+ */
+public class EOCommonSubexpressions {
+
+    /***
+     * Attributes of the standard data objects that produce the same object for the same receiver and arguments
+     * and have no side effects
+     */
+    private static final Set<String> PURE_OPERATIONS = Set.of(
+            "add", "sub", "mul", "div", "mod", "pow", "neg", "abs", "signum",
+            "eq", "neq", "less", "leq", "greater", "geq", "not", "and", "or",
+            "toInt", "toFloat", "toString", "length", "isEmpty", "trim", "substring", "get"
+    );
+
+    /***
+     * The abstraction whose subexpressions are eliminated
+     */
+    private final EOAbstraction abstraction;
+
+    /***
+     * The purity of the applications of the source file (operations are hoisted only if their operands are pure)
+     */
+    private final EOPurityAnalysis purity;
+
+    /***
+     * Occurrences of the subexpressions of the abstraction grouped by their structure
+     * (in the order they are found)
+     */
+    private final Map<String, List<Occurrence>> occurrences = new LinkedHashMap<>();
+
+    private EOCommonSubexpressions(EOAbstraction abstraction, EOPurityAnalysis purity) {
+        this.abstraction = abstraction;
+        this.purity = purity;
+    }
+
+    /***
+     * Eliminates the common subexpressions of the abstractions of the {@code file}
+     */
+    public static void eliminate(EOSourceFile file) {
+        EOPurityAnalysis purity = EOPurityAnalysis.of(file);
+        for (EOAbstraction abstraction : file.getObjects()) {
+            eliminate(abstraction, purity);
+        }
+    }
+
+    /***
+     * Eliminates the common subexpressions of the {@code abstraction} and all the abstractions declared in it
+     */
+    private static void eliminate(EOAbstraction abstraction, EOPurityAnalysis purity) {
+        for (EOAbstraction subAbstraction : abstraction.getSubAbstractions()) {
+            eliminate(subAbstraction, purity);
+        }
+        for (EOApplication boundAttribute : new ArrayList<>(abstraction.getBoundAttributes())) {
+            if (boundAttribute.getWrappedAbstraction() != null) {
+                eliminate(boundAttribute.getWrappedAbstraction(), purity);
+            }
+        }
+        boolean tailRecursive = abstraction
+                .getBoundAttributes()
+                .stream()
+                .anyMatch(a -> a.getName().orElse("").equals("@") && a.getWrappedAbstraction() == null && a.isTailRecursive());
+        if (tailRecursive) {
+            return;
+        }
+        int synthetic = 0;
+        while (true) {
+            EOCommonSubexpressions pass = new EOCommonSubexpressions(abstraction, purity);
+            pass.collect();
+            Optional<List<Occurrence>> common = pass.occurrences
+                    .entrySet()
+                    .stream()
+                    .filter(entry -> isCommon(entry.getValue()))
+                    .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                    .map(Map.Entry::getValue);
+            if (common.isEmpty()) {
+                return;
+            }
+            synthetic += pass.hoist(common.get(), synthetic + 1) ? 1 : 0;
+        }
+    }
+
+    /***
+     * Is a subexpression with the {@code occurrences} worth hoisting?
+     * (i.e., can at least two of them reference a single bound attribute instead of evaluating the subexpression)
+     */
+    private static boolean isCommon(List<Occurrence> occurrences) {
+        long replaceable = occurrences.stream().filter(Occurrence::isReplaceable).count();
+        return replaceable > 1 || replaceable > 0 && occurrences.stream().anyMatch(Occurrence::isReusable);
+    }
+
+    /***
+     * Finds the subexpressions of the bound attributes of the abstraction
+     */
+    private void collect() {
+        for (EOApplication boundAttribute : abstraction.getBoundAttributes()) {
+            if (boundAttribute.getWrappedAbstraction() == null) {
+                key(boundAttribute, null);
+            }
+        }
+    }
+
+    /***
+     * Builds the structural key of the {@code application} and registers it as an occurrence
+     * (along with its subexpressions)
+     *
+     * @param replace Replaces the application in the application it belongs to (null for bound attributes).
+     * @return The key, or empty if the application may have side effects or produce a new object every time
+     * (i.e., unless it is data, a free attribute, a pure bound attribute, or an operation of the standard data objects
+     * applied to such operands).
+     */
+    private Optional<String> key(EOApplication application, Consumer<EOApplication> replace) {
+        ArrayList<EOApplication> arguments = application.getArguments();
+        ArrayList<String> argumentKeys = new ArrayList<>();
+        for (int i = 0; i < arguments.size(); i++) {
+            int position = i;
+            key(arguments.get(i), argument -> arguments.set(position, argument)).ifPresent(argumentKeys::add);
+        }
+        if (application.getScope() != abstraction || application.getWrappedAbstraction() != null) {
+            return Optional.empty();
+        }
+        if (application.getData().isPresent()) {
+            PicoWriter w = new PicoWriter();
+            application.getData().get().transpile(w);
+            return Optional.of(w.toString());
+        }
+        if (!application.isDotNotation()) {
+            if (arguments.isEmpty() && !application.getAppliedObject().equals("@") && isPureReference(application)) {
+                return Optional.of(application.getAppliedObject());
+            }
+            return Optional.empty();
+        }
+        Optional<String> base = key(application.getDotNotationBase(), application::setDotNotationBase);
+        if (base.isEmpty() || argumentKeys.size() != arguments.size() || !PURE_OPERATIONS.contains(application.getAppliedObject())) {
+            return Optional.empty();
+        }
+        String key = String.format("(%s).%s(%s)", base.get(), application.getAppliedObject(), String.join(", ", argumentKeys));
+        occurrences.computeIfAbsent(key, k -> new ArrayList<>()).add(new Occurrence(application, replace));
+        return Optional.of(key);
+    }
+
+    /***
+     * Does the {@code application} reference a free attribute or a pure application-based bound attribute?
+     */
+    private boolean isPureReference(EOApplication application) {
+        if (application.isFreeAttributeReference()) {
+            return true;
+        }
+        Optional<EOApplication> boundAttribute = application.getReferencedBoundAttribute();
+        return boundAttribute.isPresent() && purity.isPure(boundAttribute.get(), abstraction);
+    }
+
+    /***
+     * Makes all the {@code common} occurrences of a subexpression reference a single bound attribute:
+     * an existing one, or the synthetic {@code cse$N} attribute (where N is the {@code index})
+     *
+     * @return Is the synthetic attribute created?
+     */
+    private boolean hoist(List<Occurrence> common, int index) {
+        Optional<Occurrence> reusable = common.stream().filter(Occurrence::isReusable).findFirst();
+        String name;
+        if (reusable.isPresent()) {
+            name = reusable.get().application.getName().get();
+        } else {
+            EOApplication first = common.get(0).application;
+            name = String.format("cse$%d", index);
+            EOApplication attribute = new EOApplication(true, first.getAppliedObject(), Optional.of(name), Optional.empty());
+            attribute.setScope(abstraction);
+            attribute.setDotNotationBase(first.getDotNotationBase());
+            attribute.setArguments(first.getArguments());
+            abstraction.getBoundAttributes().add(attribute);
+        }
+        for (Occurrence occurrence : common) {
+            if (occurrence.isReplaceable()) {
+                EOApplication reference = new EOApplication(false, name, Optional.empty(), Optional.empty());
+                reference.setScope(abstraction);
+                reference.setArguments(new ArrayList<>());
+                occurrence.replace.accept(reference);
+            }
+        }
+        return reusable.isEmpty();
+    }
+
+    /***
+     * An occurrence of a subexpression
+     */
+    private static final class Occurrence {
+        private final EOApplication application;
+
+        /***
+         * Replaces the application in the application it belongs to (null for bound attributes)
+         */
+        private final Consumer<EOApplication> replace;
+
+        private Occurrence(EOApplication application, Consumer<EOApplication> replace) {
+            this.application = application;
+            this.replace = replace;
+        }
+
+        /***
+         * Can the occurrence be replaced with a reference to a bound attribute?
+         */
+        private boolean isReplaceable() {
+            return replace != null;
+        }
+
+        /***
+         * Can the other occurrences reference this one? (i.e., is it an application-based bound attribute)
+         */
+        private boolean isReusable() {
+            return replace == null && !application.getName().orElse("").equals("@");
+        }
+    }
+}
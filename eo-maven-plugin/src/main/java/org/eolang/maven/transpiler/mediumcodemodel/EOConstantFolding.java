@@ -0,0 +1,188 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import org.eolang.core.EOObject;
+import org.eolang.core.data.EOBoolData;
+import org.eolang.core.data.EOCharData;
+import org.eolang.core.data.EOFloatData;
+import org.eolang.core.data.EOIntData;
+import org.eolang.core.data.EOStringData;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/***
+ * Evaluates the operations of the standard data objects (i.e., int, float, bool, string and char) applied to data
+ * at compile time (performs the constant folding over the objects of a single source file).
+ * An operation is evaluated if its base object and all its arguments are data (literals, folded operations
+ * or references to bound attributes that are data). The operation is performed by the runtime object itself,
+ * so the folded data is exactly the data the operation would produce at run time.
+ * The folded applications are transpiled to data literals.
+ * <p>
+ * Operations that fail (e.g., division by zero) are not folded, so that they fail at run time as before.
+ * Neither are operations whose results cannot be written as literals (e.g., infinite numbers or strings that
+ * would need escaping).
+ */
+public class EOConstantFolding {
+
+    /***
+     * Abstractions that are folded already
+     */
+    private final Set<EOAbstraction> folded = new HashSet<>();
+
+    /***
+     * Bound attributes that are being folded (used to break cycles between bound attributes)
+     */
+    private final Set<EOApplication> visiting = new HashSet<>();
+
+    private EOConstantFolding() {
+    }
+
+    /***
+     * Folds the operations over data in the abstractions of the {@code file}
+     */
+    public static void fold(EOSourceFile file) {
+        EOConstantFolding folding = new EOConstantFolding();
+        for (EOAbstraction abstraction : file.getObjects()) {
+            folding.fold(abstraction);
+        }
+    }
+
+    /***
+     * Folds the operations over data in the {@code abstraction} and all the abstractions declared in it
+     */
+    private void fold(EOAbstraction abstraction) {
+        if (!folded.add(abstraction)) {
+            return;
+        }
+        for (EOApplication boundAttribute : abstraction.getBoundAttributes()) {
+            fold(boundAttribute);
+        }
+        for (EOAbstraction subAbstraction : abstraction.getSubAbstractions()) {
+            fold(subAbstraction);
+        }
+    }
+
+    /***
+     * Folds the operations over data in the {@code application} (including the application itself)
+     *
+     * @return The data the application produces if it is known at compile time.
+     */
+    private Optional<EOData> fold(EOApplication application) {
+        if (application.getWrappedAbstraction() != null) {
+            fold(application.getWrappedAbstraction());
+            return Optional.empty();
+        }
+        if (application.getData().isPresent()) {
+            return application.getData();
+        }
+        ArrayList<EOData> arguments = new ArrayList<>();
+        for (EOApplication argument : application.getArguments()) {
+            fold(argument).ifPresent(arguments::add);
+        }
+        if (!application.isDotNotation()) {
+            Optional<EOApplication> boundAttribute = application.getReferencedBoundAttribute();
+            if (boundAttribute.isPresent() && visiting.add(boundAttribute.get())) {
+                try {
+                    return fold(boundAttribute.get());
+                } finally {
+                    visiting.remove(boundAttribute.get());
+                }
+            }
+            return Optional.empty();
+        }
+        Optional<EOData> base = fold(application.getDotNotationBase());
+        if (base.isEmpty() || arguments.size() != application.getArguments().size()) {
+            return Optional.empty();
+        }
+        Optional<EOData> result = evaluate(application, base.get(), arguments);
+        result.ifPresent(application::fold);
+        return result;
+    }
+
+    /***
+     * Applies the attribute accessed by the dot-notation based {@code application} to the runtime objects
+     * of the {@code base} data and the {@code arguments} data
+     *
+     * @return The data produced by the attribute, or empty if it cannot be folded.
+     */
+    private static Optional<EOData> evaluate(EOApplication application, EOData base, ArrayList<EOData> arguments) {
+        if (!isLiteral(base) || !arguments.stream().allMatch(EOConstantFolding::isLiteral)) {
+            return Optional.empty();
+        }
+        Optional<Method> attribute = application.findStaticAttribute(base.getRuntimeType());
+        if (attribute.isEmpty()) {
+            return Optional.empty();
+        }
+        Method method = attribute.get();
+        Object[] parameters = new Object[method.getParameterCount()];
+        int fixed = method.isVarArgs() ? parameters.length - 1 : parameters.length;
+        for (int i = 0; i < fixed; i++) {
+            parameters[i] = arguments.get(i).toRuntimeObject();
+        }
+        if (method.isVarArgs()) {
+            parameters[fixed] = arguments.subList(fixed, arguments.size())
+                    .stream()
+                    .map(EOData::toRuntimeObject)
+                    .toArray(EOObject[]::new);
+        }
+        try {
+            return toData(method.invoke(base.toRuntimeObject(), parameters)).filter(EOConstantFolding::isLiteral);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            // the operation fails at run time as well
+            return Optional.empty();
+        }
+    }
+
+    /***
+     * Converts the {@code result} runtime object to data if it is a standard data object
+     */
+    private static Optional<EOData> toData(Object result) {
+        if (!(result instanceof org.eolang.EOint || result instanceof org.eolang.EOfloat || result instanceof org.eolang.EObool
+                || result instanceof org.eolang.EOstring || result instanceof org.eolang.EOchar)) {
+            return Optional.empty();
+        }
+        Object data = ((EOObject) result)._getData();
+        if (data instanceof EOIntData) {
+            return Optional.of(new EOint(((EOIntData) data).asLong()));
+        }
+        if (data instanceof EOFloatData) {
+            return Optional.of(new EOfloat(((EOFloatData) data).asDouble()));
+        }
+        if (data instanceof EOBoolData) {
+            return Optional.of(new EObool(((EOBoolData) data).asBoolean()));
+        }
+        if (data instanceof EOCharData) {
+            return Optional.of(new EOchar(((EOCharData) data).asChar()));
+        }
+        if (data instanceof EOStringData) {
+            return Optional.of(new EOstring(data.toString()));
+        }
+        return Optional.empty();
+    }
+
+    /***
+     * Can the {@code data} be written as a literal of the target Java source code as it is?
+     * Texts are written without escaping (and literals of the source program are kept escaped),
+     * so texts with escape sequences or special characters are neither evaluated, nor produced
+     */
+    private static boolean isLiteral(EOData data) {
+        if (data instanceof EOfloat) {
+            return Double.isFinite(((EOfloat) data).getValue());
+        }
+        if (data instanceof EOstring) {
+            return isPlainText(((EOstring) data).getValue());
+        }
+        if (data instanceof EOchar) {
+            return isPlainText(String.valueOf(((EOchar) data).getValue()));
+        }
+        return true;
+    }
+
+    private static boolean isPlainText(String text) {
+        return text.chars().allMatch(c -> c >= ' ' && c != '\\' && c != '"' && c != '\'' && c < 0x7f);
+    }
+}
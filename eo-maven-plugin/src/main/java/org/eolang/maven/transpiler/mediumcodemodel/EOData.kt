@@ -6,18 +6,34 @@ import org.eolang.EOchar
 import org.eolang.EOfloat
 import org.eolang.EOint
 import org.eolang.EOstring
+import org.eolang.core.EOObject
 
 /***
  * Represents EO data type objects
  */
-abstract class EOData : EOSourceEntity()
+abstract class EOData : EOSourceEntity() {
+    /***
+     * The runtime class of the objects the data transpiles to
+     */
+    abstract val runtimeType: Class<*>
+
+    /***
+     * Instantiates the runtime object the data transpiles to
+     */
+    abstract fun toRuntimeObject(): EOObject
+}
 
 /***
  * Represents integer numerals
  */
 class EOint(val value: Long) : EOData() {
+    override val runtimeType: Class<*>
+        get() = EOint::class.java
+
+    override fun toRuntimeObject(): EOObject = EOint.of(value)
+
     override fun transpile(w: PicoWriter?): ArrayList<EOTargetFile?>? {
-        w?.write("new ${EOint::class.java.simpleName}(${value}L)")
+        w?.write("${EOint::class.java.simpleName}.of(${value}L)")
         return null
     }
 }
@@ -26,6 +42,11 @@ class EOint(val value: Long) : EOData() {
  * Represents floating-point numerals
  */
 class EOfloat(val value: Double) : EOData() {
+    override val runtimeType: Class<*>
+        get() = EOfloat::class.java
+
+    override fun toRuntimeObject(): EOObject = EOfloat(value)
+
     override fun transpile(w: PicoWriter?): ArrayList<EOTargetFile?>? {
         w?.write("new ${EOfloat::class.java.simpleName}(${value}D)")
         return null
@@ -36,8 +57,13 @@ class EOfloat(val value: Double) : EOData() {
  * Represents booleans
  */
 class EObool(val value: Boolean) : EOData() {
+    override val runtimeType: Class<*>
+        get() = EObool::class.java
+
+    override fun toRuntimeObject(): EOObject = EObool.of(value)
+
     override fun transpile(w: PicoWriter?): ArrayList<EOTargetFile?>? {
-        w?.write("new ${EObool::class.java.simpleName}(${value})")
+        w?.write("${EObool::class.java.simpleName}.of(${value})")
         return null
     }
 }
@@ -46,6 +72,11 @@ class EObool(val value: Boolean) : EOData() {
  * Represents strings
  */
 class EOstring(val value: String) : EOData() {
+    override val runtimeType: Class<*>
+        get() = EOstring::class.java
+
+    override fun toRuntimeObject(): EOObject = EOstring(value)
+
     override fun transpile(w: PicoWriter?): ArrayList<EOTargetFile?>? {
         w?.write("new ${EOstring::class.java.simpleName}(\"${value}\")")
         return null
@@ -56,6 +87,11 @@ class EOstring(val value: String) : EOData() {
  * Represents characters
  */
 class EOchar(val value: Char) : EOData() {
+    override val runtimeType: Class<*>
+        get() = EOchar::class.java
+
+    override fun toRuntimeObject(): EOObject = EOchar(value)
+
     override fun transpile(w: PicoWriter?): ArrayList<EOTargetFile?>? {
         w?.write("new ${EOchar::class.java.simpleName}('$value')")
         return null
@@ -0,0 +1,146 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/***
+ * Infers which abstractions are pure, i.e., which objects have the same data behind them whenever they are dataized,
+ * and are dataized without side effects (performs the purity analysis of the objects of a single source file).
+ * An abstraction is pure if its decoratee always produces data through the standard data objects,
+ * i.e., if the decoratee (or every branch of it, for the {@code if} attribute) is data, an operation
+ * of the standard data objects or an application of a pure abstraction, whose operands (the receiver and the arguments
+ * of the operation, the condition of {@code if}, the arguments of the application) are pure as well.
+ * The data behind objects of pure abstractions is memoized by the runtime.
+ * <p>
+ * Objects that are not declared in the source file are unknown to the analysis,
+ * so decoratees that rely on them (e.g., apply them, or apply operations to them) are not pure.
+ * Free attributes are unknown as well (any object may be bound to them, e.g., one with its own {@code add}
+ * that has side effects), so decoratees that rely on free attributes are not pure either.
+ */
+public class EOPurityAnalysis {
+
+    /***
+     * Attributes of the standard data objects that produce data objects
+     */
+    private static final Set<String> DATA_RESULTS = Set.of(
+            "add", "sub", "mul", "div", "mod", "pow", "neg", "abs", "signum",
+            "eq", "neq", "less", "leq", "greater", "geq", "not", "and", "or",
+            "toInt", "toFloat", "toString", "length", "isEmpty", "trim", "substring"
+    );
+
+    /***
+     * The pure abstractions (the result of the analysis)
+     */
+    private final Set<EOAbstraction> pure = new LinkedHashSet<>();
+
+    /***
+     * Bound attributes that are being analyzed (used to break cycles between bound attributes)
+     */
+    private final Set<EOApplication> visiting = new HashSet<>();
+
+    private EOPurityAnalysis() {
+    }
+
+    /***
+     * Analyzes the abstractions of the {@code file} and marks the pure ones
+     */
+    public static void analyze(EOSourceFile file) {
+        of(file).pure.forEach(abstraction -> abstraction.setPure(true));
+    }
+
+    /***
+     * Analyzes the abstractions of the {@code file} without marking them
+     * (so that other passes can find out which applications of the file are pure, see {@link #isPure})
+     */
+    static EOPurityAnalysis of(EOSourceFile file) {
+        EOPurityAnalysis analysis = new EOPurityAnalysis();
+        for (EOAbstraction abstraction : file.getObjects()) {
+            analysis.collect(abstraction);
+        }
+        analysis.solve();
+        return analysis;
+    }
+
+    /***
+     * Registers the {@code abstraction} and all the abstractions declared in it.
+     * Initially, every abstraction with a decoratee is assumed to be pure (the analysis computes the greatest fixpoint)
+     */
+    private void collect(EOAbstraction abstraction) {
+        if (pure.contains(abstraction)) {
+            return;
+        }
+        if (getDecoratee(abstraction).isPresent()) {
+            pure.add(abstraction);
+        }
+        for (EOAbstraction subAbstraction : abstraction.getSubAbstractions()) {
+            collect(subAbstraction);
+        }
+        for (EOApplication boundAttribute : abstraction.getBoundAttributes()) {
+            if (boundAttribute.getWrappedAbstraction() != null) {
+                collect(boundAttribute.getWrappedAbstraction());
+            }
+        }
+    }
+
+    /***
+     * Removes the abstractions whose decoratees are not pure until no more abstractions are removed
+     */
+    private void solve() {
+        boolean changed = true;
+        while (changed) {
+            changed = pure.removeIf(abstraction -> !isPure(getDecoratee(abstraction).get(), abstraction));
+        }
+    }
+
+    private static Optional<EOApplication> getDecoratee(EOAbstraction abstraction) {
+        return abstraction
+                .getBoundAttributes()
+                .stream()
+                .filter(a -> a.getName().orElse("").equals("@"))
+                .filter(a -> a.getWrappedAbstraction() == null)
+                .findFirst();
+    }
+
+    /***
+     * Does the {@code application} (declared in the {@code abstraction}) always produce data through
+     * the standard data objects?
+     */
+    boolean isPure(EOApplication application, EOAbstraction abstraction) {
+        if (application.getScope() != abstraction || application.getWrappedAbstraction() != null) {
+            return false;
+        }
+        if (application.getData().isPresent()) {
+            return true;
+        }
+        String appliedObject = application.getAppliedObject();
+        if (application.isDotNotation()) {
+            if (appliedObject.equals("if") && application.getArguments().size() == 2) {
+                return isPure(application.getDotNotationBase(), abstraction)
+                        && isPure(application.getArguments().get(0), abstraction)
+                        && isPure(application.getArguments().get(1), abstraction);
+            }
+            return DATA_RESULTS.contains(appliedObject)
+                    && isPure(application.getDotNotationBase(), abstraction)
+                    && application.getArguments().stream().allMatch(argument -> isPure(argument, abstraction));
+        }
+        if (appliedObject.equals("^") || application.isFreeAttributeReference()) {
+            return false;
+        }
+        Optional<EOAbstraction> callee = application.getReferencedAbstraction();
+        if (callee.isPresent()) {
+            return pure.contains(callee.get())
+                    && application.getArguments().stream().allMatch(argument -> isPure(argument, abstraction));
+        }
+        Optional<EOApplication> boundAttribute = application.getReferencedBoundAttribute();
+        if (boundAttribute.isPresent() && visiting.add(boundAttribute.get())) {
+            try {
+                return isPure(boundAttribute.get(), abstraction);
+            } finally {
+                visiting.remove(boundAttribute.get());
+            }
+        }
+        return false;
+    }
+}
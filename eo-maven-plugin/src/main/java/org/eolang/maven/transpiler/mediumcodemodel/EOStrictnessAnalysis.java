@@ -0,0 +1,285 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import org.eolang.EOarray;
+import org.eolang.EObool;
+import org.eolang.EOchar;
+import org.eolang.EOfloat;
+import org.eolang.EOint;
+import org.eolang.EOstring;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/***
+ * Infers which free attributes of abstractions are always demanded when the abstractions are dataized
+ * (i.e., performs the strictness analysis of the objects of a single source file).
+ * A free attribute is strict if the decoratee of the abstraction dataizes it on every path
+ * (the attributes the decoratee only sends messages to are tracked during the analysis, but they are not strict).
+ * An application of the abstraction that is certainly dataized once it is evaluated (e.g., an operand of an arithmetic
+ * operation, see {@link #dataizesReceiver}) may then evaluate the arguments bound to the strict free attributes eagerly
+ * instead of wrapping them into thunks, since the thunks would be forced anyway.
+ * Other applications keep all their arguments lazy: an application may be instantiated only to be sent a message to.
+ * <p>
+ * Attributes of objects that are not declared in the source file are unknown to the analysis, except for
+ * the attributes of the standard data objects (i.e., int, float, bool, string, char and array)
+ * that dataize their receivers and arguments. An attribute is known to be one of a standard data object only if
+ * the receiver is known to be such an object at compile time (see {@link EOApplication#getReceiverType}):
+ * other objects (e.g., the ones bound to free attributes) may declare their own attributes of the same names,
+ * so their receivers are only sent a message to, and their arguments are left lazy.
+ */
+public class EOStrictnessAnalysis {
+
+    /***
+     * Describes how a free attribute is demanded
+     */
+    private enum Demand {
+        /***
+         * Some message is sent to the object bound to the free attribute
+         */
+        FORCED,
+        /***
+         * The object bound to the free attribute is dataized
+         */
+        DATAIZED;
+
+        private Demand meet(Demand other) {
+            return this.compareTo(other) <= 0 ? this : other;
+        }
+
+        private Demand join(Demand other) {
+            return this.compareTo(other) >= 0 ? this : other;
+        }
+    }
+
+    /***
+     * Attributes of the standard data objects that dataize both the receiver and the arguments
+     */
+    private static final Set<String> DATA_OPERATIONS = Set.of(
+            "add", "sub", "mul", "div", "mod", "pow",
+            "eq", "neq", "less", "leq", "greater", "geq",
+            "get", "substring"
+    );
+
+    /***
+     * Attributes of the standard data objects that dataize the receiver only
+     */
+    private static final Set<String> RECEIVER_OPERATIONS = Set.of(
+            "neg", "abs", "signum", "not", "and", "or",
+            "toInt", "toFloat", "toString", "length", "isEmpty", "trim"
+    );
+
+    /***
+     * The standard data objects that can be dataized (the operations of arrays dataize their arguments only)
+     */
+    private static final Set<Class<?>> DATA_TYPES = Set.of(
+            EOint.class, EOfloat.class, EObool.class, EOstring.class, EOchar.class
+    );
+
+    /***
+     * The strict free attributes of the analyzed abstractions (the result of the analysis)
+     */
+    private final Map<EOAbstraction, Map<String, Demand>> strictness = new LinkedHashMap<>();
+
+    /***
+     * Bound attributes that are being analyzed (used to break cycles between bound attributes)
+     */
+    private final Set<EOApplication> visiting = new HashSet<>();
+
+    private EOStrictnessAnalysis() {
+    }
+
+    /***
+     * Analyzes the abstractions of the {@code file} and marks their strict free attributes
+     */
+    public static void analyze(EOSourceFile file) {
+        EOStrictnessAnalysis analysis = new EOStrictnessAnalysis();
+        for (EOAbstraction abstraction : file.getObjects()) {
+            analysis.collect(abstraction);
+        }
+        analysis.solve();
+        analysis.strictness.forEach((abstraction, demands) -> abstraction.setStrictFreeAttributes(
+                demands.entrySet()
+                        .stream()
+                        .filter(entry -> entry.getValue() == Demand.DATAIZED)
+                        .map(Map.Entry::getKey)
+                        .collect(Collectors.toSet())
+        ));
+    }
+
+    /***
+     * Does the dot-notation {@code application} dataize its receiver as soon as it is evaluated
+     * (i.e., does it apply an operation of the standard data objects to such an object)?
+     * The condition of {@code if} is dataized as well.
+     */
+    static boolean dataizesReceiver(EOApplication application) {
+        String attribute = application.getAppliedObject();
+        return application.getReceiverType().filter(DATA_TYPES::contains).isPresent()
+                && (DATA_OPERATIONS.contains(attribute)
+                || RECEIVER_OPERATIONS.contains(attribute)
+                || dataizesBranches(application));
+    }
+
+    /***
+     * Does the dot-notation {@code application} dataize its arguments as soon as it is evaluated?
+     */
+    static boolean dataizesArguments(EOApplication application) {
+        String attribute = application.getAppliedObject();
+        Optional<Class<?>> type = application.getReceiverType();
+        return type.isPresent()
+                && DATA_OPERATIONS.contains(attribute)
+                && (DATA_TYPES.contains(type.get()) || type.get() == EOarray.class && attribute.equals("get"));
+    }
+
+    /***
+     * Is the dot-notation {@code application} the {@code if} attribute of a bool applied to two branches
+     * (so the branch it chooses is dataized whenever the application is)?
+     */
+    static boolean dataizesBranches(EOApplication application) {
+        return application.getAppliedObject().equals("if")
+                && application.getArguments().size() == 2
+                && application.getReceiverType().filter(type -> type == EObool.class).isPresent();
+    }
+
+    /***
+     * Registers the {@code abstraction} and all the abstractions declared in it.
+     * Initially, every fixed free attribute is assumed to be strict (the analysis computes the greatest fixpoint)
+     */
+    private void collect(EOAbstraction abstraction) {
+        if (strictness.containsKey(abstraction)) {
+            return;
+        }
+        Map<String, Demand> demands = new HashMap<>();
+        for (EOInputAttribute attribute : abstraction.getFreeAttributes()) {
+            if (!attribute.isVararg()) {
+                demands.put(attribute.getName(), Demand.DATAIZED);
+            }
+        }
+        strictness.put(abstraction, demands);
+        for (EOAbstraction subAbstraction : abstraction.getSubAbstractions()) {
+            collect(subAbstraction);
+        }
+        for (EOApplication boundAttribute : abstraction.getBoundAttributes()) {
+            if (boundAttribute.getWrappedAbstraction() != null) {
+                collect(boundAttribute.getWrappedAbstraction());
+            }
+        }
+    }
+
+    /***
+     * Refines the strict free attributes of the abstractions until they do not change
+     */
+    private void solve() {
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<EOAbstraction, Map<String, Demand>> entry : strictness.entrySet()) {
+                Map<String, Demand> refined = refine(entry.getKey(), entry.getValue());
+                if (!refined.equals(entry.getValue())) {
+                    entry.setValue(refined);
+                    changed = true;
+                }
+            }
+        }
+    }
+
+    private Map<String, Demand> refine(EOAbstraction abstraction, Map<String, Demand> current) {
+        Optional<EOApplication> decoratee = abstraction
+                .getBoundAttributes()
+                .stream()
+                .filter(a -> a.getName().orElse("").equals("@"))
+                .findFirst();
+        Map<String, Demand> refined = new HashMap<>();
+        if (decoratee.isEmpty() || decoratee.get().getWrappedAbstraction() != null) {
+            return refined;
+        }
+        Map<String, Demand> demands = demand(decoratee.get(), abstraction, Demand.DATAIZED);
+        current.forEach((name, demand) -> {
+            if (demands.containsKey(name)) {
+                refined.put(name, demand.meet(demands.get(name)));
+            }
+        });
+        return refined;
+    }
+
+    /***
+     * Infers the free attributes of the {@code abstraction} that are demanded whenever the {@code application}
+     * (declared in the abstraction) is demanded with the {@code level} demand
+     */
+    private Map<String, Demand> demand(EOApplication application, EOAbstraction abstraction, Demand level) {
+        Map<String, Demand> result = new HashMap<>();
+        if (application.getScope() != abstraction || application.getData().isPresent() || application.getWrappedAbstraction() != null) {
+            return result;
+        }
+        String appliedObject = application.getAppliedObject();
+        ArrayList<EOApplication> arguments = application.getArguments();
+        if (application.isDotNotation()) {
+            EOApplication base = application.getDotNotationBase();
+            if (dataizesBranches(application)) {
+                join(result, demand(base, abstraction, Demand.DATAIZED));
+                if (level == Demand.DATAIZED) {
+                    // only one of the branches is dataized
+                    join(result, meet(
+                            demand(arguments.get(0), abstraction, Demand.DATAIZED),
+                            demand(arguments.get(1), abstraction, Demand.DATAIZED)
+                    ));
+                }
+                return result;
+            }
+            // otherwise, the attribute is at least looked up in the base
+            join(result, demand(base, abstraction, dataizesReceiver(application) ? Demand.DATAIZED : Demand.FORCED));
+            if (dataizesArguments(application)) {
+                for (EOApplication argument : arguments) {
+                    join(result, demand(argument, abstraction, Demand.DATAIZED));
+                }
+            }
+            return result;
+        }
+        if (arguments.isEmpty() && application.isFreeAttributeReference()) {
+            result.put(appliedObject, level);
+            return result;
+        }
+        Optional<EOAbstraction> callee = application.getReferencedAbstraction();
+        if (callee.isPresent()) {
+            if (level == Demand.DATAIZED) {
+                Map<String, Demand> calleeDemands = strictness.getOrDefault(callee.get(), Map.of());
+                ArrayList<EOInputAttribute> freeAttributes = callee.get().getFreeAttributes();
+                for (int i = 0; i < arguments.size() && i < freeAttributes.size(); i++) {
+                    Demand demand = calleeDemands.get(freeAttributes.get(i).getName());
+                    if (demand != null) {
+                        join(result, demand(arguments.get(i), abstraction, demand));
+                    }
+                }
+            }
+            return result;
+        }
+        Optional<EOApplication> boundAttribute = application.getReferencedBoundAttribute();
+        if (boundAttribute.isPresent() && visiting.add(boundAttribute.get())) {
+            try {
+                join(result, demand(boundAttribute.get(), abstraction, level));
+            } finally {
+                visiting.remove(boundAttribute.get());
+            }
+        }
+        return result;
+    }
+
+    private static void join(Map<String, Demand> target, Map<String, Demand> demands) {
+        demands.forEach((name, demand) -> target.merge(name, demand, Demand::join));
+    }
+
+    private static Map<String, Demand> meet(Map<String, Demand> left, Map<String, Demand> right) {
+        Map<String, Demand> result = new HashMap<>();
+        left.forEach((name, demand) -> {
+            if (right.containsKey(name)) {
+                result.put(name, demand.meet(right.get(name)));
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,76 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
+
+/**
+ * Test cases for {@link EOPurityAnalysis}.
+ */
+class EOPurityAnalysisTest {
+
+    /**
+     * The declaration of purity in the transpiled code.
+     */
+    private static final String PURE = "protected boolean _isPure()";
+
+    /**
+     * Checks that operations of the standard data objects over data and pure objects are pure.
+     */
+    @Test
+    void operationsOverDataArePure() throws Exception {
+        String[] program = {
+                "+package sandbox",
+                "",
+                "[] > answer",
+                "  (6.mul 7).add 0 > @",
+                "",
+                "[] > twice",
+                "  answer.mul 2 > @",
+        };
+        MatcherAssert.assertThat(EOSources.transpile("answer", program), containsString(PURE));
+        MatcherAssert.assertThat(EOSources.transpile("twice", program), containsString(PURE));
+    }
+
+    /**
+     * Checks that operations over free attributes are not pure, since objects with their own
+     * same-named attributes (that may have side effects) may be bound to the free attributes.
+     */
+    @Test
+    void operationsOverFreeAttributesAreNotPure() throws Exception {
+        String[] program = {
+                "+package sandbox",
+                "+alias stdout org.eolang.io.stdout",
+                "",
+                "[] > noisy",
+                "  [y] > add",
+                "    stdout > @",
+                "      \"add\"",
+                "",
+                "[x] > f",
+                "  x.add 0 > @",
+                "",
+                "[] > app",
+                "  f noisy > @",
+        };
+        MatcherAssert.assertThat(EOSources.transpile("f", program), not(containsString(PURE)));
+        MatcherAssert.assertThat(EOSources.transpile("app", program), not(containsString(PURE)));
+    }
+
+    /**
+     * Checks that operations over objects unknown to the analysis are not pure.
+     */
+    @Test
+    void operationsOverUnknownObjectsAreNotPure() throws Exception {
+        String[] program = {
+                "+package sandbox",
+                "+alias random org.eolang.random",
+                "",
+                "[] > roll",
+                "  random.add 0 > @",
+        };
+        MatcherAssert.assertThat(EOSources.transpile("roll", program), not(containsString(PURE)));
+    }
+}
@@ -0,0 +1,86 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import com.jcabi.xml.XMLDocument;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.OutputTo;
+import org.cactoos.list.ListOf;
+import org.eolang.maven.transpiler.medium2target.Medium2TargetTranspiler;
+import org.eolang.maven.transpiler.xml2medium.XML2MediumParser;
+import org.eolang.parser.Spy;
+import org.eolang.parser.Syntax;
+import org.eolang.parser.Xsline;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+/**
+ * Builds the medium code model of EO programs (the same way the parse, optimize and compile goals do it)
+ * for the test cases of the transpiler passes.
+ */
+final class EOSources {
+
+    private EOSources() {
+    }
+
+    /**
+     * Parses and optimizes the EO program made of the {@code lines}.
+     *
+     * @return The source file of the program (no transpiler passes are performed over it yet).
+     */
+    static EOSourceFile parse(String... lines) throws Exception {
+        ByteArrayOutputStream parsed = new ByteArrayOutputStream();
+        new Syntax("test", new InputOf(String.join("\n", lines) + "\n"), new OutputTo(parsed)).parse();
+        ByteArrayOutputStream optimized = new ByteArrayOutputStream();
+        new Xsline(
+                new XMLDocument(parsed.toString(StandardCharsets.UTF_8)),
+                new OutputTo(optimized),
+                new Spy.None()
+        ).with(
+                new ListOf<>(
+                        "org/eolang/parser/optimize/globals-to-abstracts.xsl",
+                        "org/eolang/parser/optimize/remove-refs.xsl",
+                        "org/eolang/parser/optimize/abstracts-float-up.xsl",
+                        "org/eolang/parser/optimize/remove-levels.xsl",
+                        "org/eolang/parser/add-refs.xsl",
+                        "org/eolang/parser/optimize/fix-missed-names.xsl",
+                        "org/eolang/parser/errors/broken-refs.xsl"
+                )
+        ).pass();
+        Path xml = Files.createTempFile("test", ".eo.xml");
+        try {
+            Files.write(xml, optimized.toByteArray());
+            return (EOSourceFile) new XML2MediumParser(xml.toFile()).parse();
+        } finally {
+            Files.delete(xml);
+        }
+    }
+
+    /**
+     * Transpiles the EO program made of the {@code lines} (performing all the transpiler passes).
+     *
+     * @return The Java code of the package-scoped object {@code name} of the program.
+     */
+    static String transpile(String name, String... lines) throws Exception {
+        String fileName = String.format("EO%s.java", name);
+        return Medium2TargetTranspiler.transpile(parse(lines))
+                .stream()
+                .filter(file -> file.getFileName().endsWith(fileName))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException(fileName))
+                .getContents();
+    }
+
+    /**
+     * Finds the package-scoped object {@code name} of the source {@code file}.
+     */
+    static EOAbstraction find(EOSourceFile file, String name) {
+        return file.getObjects()
+                .stream()
+                .filter(abstraction -> abstraction.getInstanceName().orElse("").equals(name))
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException(name));
+    }
+}
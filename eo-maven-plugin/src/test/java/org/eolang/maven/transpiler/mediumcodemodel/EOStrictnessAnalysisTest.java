@@ -0,0 +1,69 @@
+package org.eolang.maven.transpiler.mediumcodemodel;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+
+/**
+ * Test cases for {@link EOStrictnessAnalysis}.
+ */
+class EOStrictnessAnalysisTest {
+
+    /**
+     * Checks that free attributes dataized by the operations of the standard data objects are strict,
+     * as well as the free attributes bound to them.
+     */
+    @Test
+    void operandsOfDataOperationsAreStrict() throws Exception {
+        EOSourceFile file = EOSources.parse(
+                "+package sandbox",
+                "",
+                "[x] > inc",
+                "  1.add x > @",
+                "",
+                "[y] > twice",
+                "  inc (inc y) > @",
+                "",
+                "[i] > at",
+                "  (* 1 2).get i > @"
+        );
+        EOStrictnessAnalysis.analyze(file);
+        MatcherAssert.assertThat(EOSources.find(file, "inc").isStrict(0), is(true));
+        MatcherAssert.assertThat(EOSources.find(file, "twice").isStrict(0), is(true));
+        MatcherAssert.assertThat(EOSources.find(file, "at").isStrict(0), is(true));
+    }
+
+    /**
+     * Checks that free attributes are not strict if the attributes applied to them have the same names as
+     * the operations of the standard data objects, since the objects bound to them may declare these attributes on their own.
+     */
+    @Test
+    void receiversOfUserDefinedAttributesAreNotStrict() throws Exception {
+        EOSourceFile file = EOSources.parse(
+                "+package sandbox",
+                "",
+                "[x] > f",
+                "  x.length > @",
+                "",
+                "[z] > h",
+                "  [] > length",
+                "    0 > @",
+                "",
+                "[y] > g",
+                "  f (h y) > @",
+                "",
+                "[a b] > sum",
+                "  a.add b > @",
+                "",
+                "[c] > pick",
+                "  c.get 0 > @"
+        );
+        EOStrictnessAnalysis.analyze(file);
+        MatcherAssert.assertThat(EOSources.find(file, "f").isStrict(0), is(false));
+        MatcherAssert.assertThat(EOSources.find(file, "g").isStrict(0), is(false));
+        MatcherAssert.assertThat(EOSources.find(file, "sum").isStrict(0), is(false));
+        MatcherAssert.assertThat(EOSources.find(file, "sum").isStrict(1), is(false));
+        MatcherAssert.assertThat(EOSources.find(file, "pick").isStrict(0), is(false));
+    }
+}
@@ -1,14 +1,31 @@
 package org.eolang;
 
 import org.eolang.core.EOObject;
+import org.eolang.core.EOVector;
+import org.eolang.core.data.EOCharData;
+import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOFloatData;
+import org.eolang.core.data.EOIntData;
+import org.eolang.core.data.EONoData;
+import org.eolang.core.data.EOStringData;
 import org.paukov.combinatorics3.Generator;
 
 import java.lang.reflect.Constructor;
 import java.security.InvalidParameterException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Represents an array data structure.
@@ -16,41 +33,263 @@ import java.util.Objects;
 public class EOarray extends EOObject {
 
     /**
-     * The underlying data structure behind this array is a Java List.
-     * Effectively, the {@code _array} is an unmodifiable list since both
-     * constructors of this class rely on the {@code List.of()} method.
+     * The underlying data structure behind an array of arbitrary objects is a persistent vector (see {@link EOVector}).
+     * Arrays produced by the operations of this array share the unchanged parts of the vector with it,
+     * so appending an element or replacing one does not copy the whole array.
+     * The vector is null if this array holds numbers only (see {@link #_longs} and {@link #_doubles}).
      */
-    private final List<EOObject> _array;
+    private final EOVector _array;
+
+    /**
+     * The underlying data structure behind an array of {@code int} objects only, or null.
+     * The {@code int} objects are materialized when the elements are accessed.
+     */
+    private final long[] _longs;
+
+    /**
+     * The underlying data structure behind an array of {@code float} objects only, or null.
+     * The {@code float} objects are materialized when the elements are accessed.
+     */
+    private final double[] _doubles;
+
+    /**
+     * The position of the first element of this array in the underlying data structure.
+     * Slices of arrays are views of the underlying data structures of the sliced arrays (see {@link #EOslice}).
+     */
+    private final int _offset;
+
+    /**
+     * The number of the elements of this array.
+     */
+    private final int _length;
+
+    /**
+     * Arrays of fewer elements than this number are processed by the parallel operations sequentially
+     * (set via the 'org.eolang.EOarray.parallel.threshold' system property).
+     */
+    private static final int PARALLEL_THRESHOLD = Math.max(Integer.getInteger("org.eolang.EOarray.parallel.threshold", 256), 1);
+
+    /**
+     * The parallel operations split arrays into about this number of chunks per thread of the fork/join pool
+     * (so that threads that finish early take chunks over from the busy ones).
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /**
+     * Slices that keep less than 1/{@value} of the elements of the underlying data structure copy their elements
+     * instead of viewing it (so that small slices do not retain large arrays).
+     */
+    private static final int COMPACTION_RATIO = 4;
+
+    /**
+     * Slices of underlying data structures of fewer elements than {@value} view them in any case
+     * (such data structures retain little memory).
+     */
+    private static final int COMPACTION_THRESHOLD = 64;
 
     /**
      * Instantiates an empty array.
      */
     public EOarray() {
-        _array = List.of();
+        this(EOVector.EMPTY, null, null);
     }
 
     /**
      * Instantiates a non-empty array.
+     * Arrays of {@code int} (or {@code float}) objects only keep the numbers behind them instead of the objects.
      *
      * @param objects contents of the array being instantiated.
      */
     public EOarray(EOObject... objects) {
-        _array = List.of(objects);
+        for (EOObject object : objects) {
+            Objects.requireNonNull(object);
+        }
+        _longs = _toLongs(objects, objects.length);
+        _doubles = _longs == null ? _toDoubles(objects, objects.length) : null;
+        _array = _longs == null && _doubles == null ? EOVector.of(objects) : null;
+        _offset = 0;
+        _length = objects.length;
+    }
+
+    /**
+     * Instantiates an array backed by one of the {@code vector}, the {@code longs} and the {@code doubles}
+     * (the others are null).
+     */
+    private EOarray(EOVector vector, long[] longs, double[] doubles) {
+        this(
+                vector, longs, doubles, 0,
+                vector != null ? vector.size() : longs != null ? longs.length : doubles.length
+        );
+    }
+
+    /**
+     * Instantiates an array viewing {@code length} elements of one of the {@code vector}, the {@code longs}
+     * and the {@code doubles} (the others are null) starting from the position {@code offset}.
+     */
+    private EOarray(EOVector vector, long[] longs, double[] doubles, int offset, int length) {
+        _array = vector;
+        _longs = longs;
+        _doubles = doubles;
+        _offset = offset;
+        _length = length;
+    }
+
+    /**
+     * Instantiates an array of the first {@code length} of the {@code objects} choosing the representation of it
+     * (see {@link #EOarray(EOObject...)}).
+     */
+    static EOarray _of(EOObject[] objects, int length) {
+        long[] longs = _toLongs(objects, length);
+        if (longs != null) {
+            return new EOarray(null, longs, null);
+        }
+        double[] doubles = _toDoubles(objects, length);
+        if (doubles != null) {
+            return new EOarray(null, null, doubles);
+        }
+        EOVector.Builder vector = new EOVector.Builder(length);
+        for (int i = 0; i < length; i++) {
+            vector.add(objects[i]);
+        }
+        return new EOarray(vector.build(), null, null);
+    }
+
+    /**
+     * Reads the numbers behind the first {@code length} of the {@code objects} if all of them are {@code int} objects.
+     *
+     * @return The numbers, or null if some of the objects is not an {@code int} object (or there are no objects).
+     */
+    private static long[] _toLongs(EOObject[] objects, int length) {
+        if (length == 0) {
+            return null;
+        }
+        long[] longs = new long[length];
+        for (int i = 0; i < length; i++) {
+            if (objects[i].getClass() != EOint.class) {
+                return null;
+            }
+            longs[i] = objects[i]._getLong();
+        }
+        return longs;
+    }
+
+    /**
+     * Reads the numbers behind the first {@code length} of the {@code objects} if all of them are {@code float} objects.
+     *
+     * @return The numbers, or null if some of the objects is not a {@code float} object (or there are no objects).
+     */
+    private static double[] _toDoubles(EOObject[] objects, int length) {
+        if (length == 0) {
+            return null;
+        }
+        double[] doubles = new double[length];
+        for (int i = 0; i < length; i++) {
+            if (objects[i].getClass() != EOfloat.class) {
+                return null;
+            }
+            doubles[i] = objects[i]._getDouble();
+        }
+        return doubles;
+    }
+
+    /**
+     * Retrieves the number of the elements of this array.
+     */
+    int _size() {
+        return _length;
+    }
+
+    /**
+     * Retrieves the number of the elements of the underlying data structure of this array.
+     */
+    private int _capacity() {
+        if (_longs != null) {
+            return _longs.length;
+        }
+        if (_doubles != null) {
+            return _doubles.length;
+        }
+        return _array.size();
+    }
+
+    /**
+     * Retrieves the element at the position {@code i} of this array (materializing it if this array holds numbers).
+     */
+    EOObject _element(int i) {
+        if (_longs != null) {
+            return EOint.of(_longs[_offset + i]);
+        }
+        if (_doubles != null) {
+            return new EOfloat(_doubles[_offset + i]);
+        }
+        return _array.get(_offset + i);
+    }
+
+    /**
+     * Iterates over the elements of this array (materializing them if this array holds numbers).
+     */
+    Iterable<EOObject> _elements() {
+        if (_array != null) {
+            return () -> _array.iterator(_offset, _offset + _length);
+        }
+        return () -> new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < _size();
+            }
+
+            @Override
+            public EOObject next() {
+                if (index >= _size()) {
+                    throw new NoSuchElementException();
+                }
+                return _element(index++);
+            }
+        };
+    }
+
+    /**
+     * Retrieves the elements of this array as a persistent vector (materializing them if this array holds numbers).
+     */
+    private EOVector _vector() {
+        if (_array != null && _length == _array.size()) {
+            return _array;
+        }
+        EOVector.Builder vector = new EOVector.Builder(_size());
+        for (EOObject element : _elements()) {
+            vector.add(element);
+        }
+        return vector.build();
+    }
+
+    /**
+     * Copies the elements of this array to a Java array (materializing them if this array holds numbers).
+     */
+    private EOObject[] _toArray() {
+        if (_array != null && _length == _array.size()) {
+            return _array.toArray();
+        }
+        EOObject[] elements = new EOObject[_size()];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = _element(i);
+        }
+        return elements;
     }
 
     /**
      * Appends {@code obj} to the end of this array.
      * <p>
      * This operation does not mutate the original array.
-     * Instead, it produces a copy of this array and appends {@code obj} to the end of it.
+     * Instead, it produces a copy of this array and appends {@code obj} to the end of it
+     * (the copy shares all the elements but the last ones with this array).
+     * Arrays of numbers are turned into arrays of objects, so that appending elements one by one stays cheap.
      *
      * @return a copy of this array with {@code obj} appended as its last element.
      */
     public EOarray EOappend(EOObject obj) {
-        EOObject[] newArray = new EOObject[_array.size() + 1];
-        System.arraycopy(_array.toArray(), 0, newArray, 0, _array.size());
-        newArray[_array.size()] = obj;
-        return new EOarray(newArray);
+        return new EOarray(_vector().append(Objects.requireNonNull(obj)), null, null);
     }
 
     /**
@@ -63,21 +302,194 @@ public class EOarray extends EOObject {
      * @return a copy of this array with {@code obj} appended as its last element.
      */
     public EOarray EOappendAll(EOObject obj) {
-        try {
-            int array2Size = obj._getAttribute("EOlength")._getData().toInt().intValue();
-            if (array2Size > 0) {
-                EOObject[] newArray;
-                newArray = new EOObject[_array.size() + array2Size];
-                System.arraycopy(_array.toArray(), 0, newArray, 0, _array.size());
-                for (int i = _array.size(); i < newArray.length; ++i) {
-                    newArray[i] = obj._getAttribute("EOget", new EOint(i - _array.size()));
+        if (!obj._hasAttribute("EOlength", 0) || !obj._hasAttribute("EOget", 1)) {
+            return EOappend(obj);
+        }
+        int array2Size = (int) obj._getAttribute("EOlength")._getLong();
+        if (array2Size > 0) {
+            EOVector newArray = _vector();
+            for (int i = 0; i < array2Size; ++i) {
+                newArray = newArray.append(obj._getAttribute("EOget", EOint.of(i)));
+            }
+            return new EOarray(newArray, null, null);
+        }
+        return this;
+    }
+
+    /**
+     * Searches for the {@code key} in this array sorted in the natural order (see {@link #EOsort()})
+     * by means of the binary search.
+     *
+     * @param key the object to search for.
+     * @return the position of an element equal to the {@code key}, or {@code -(p + 1)} if there are no such elements,
+     * where {@code p} is the position the {@code key} would be inserted at to keep this array sorted.
+     * @throws RuntimeException if the data behind the elements cannot be compared with the data behind the {@code key}.
+     */
+    public EOint EObinarySearch(EOObject key) {
+        EOData keyData = key._getData();
+        int found;
+        if (_longs != null && keyData instanceof EOIntData) {
+            found = Arrays.binarySearch(_longs, _offset, _offset + _length, keyData.asLong());
+        } else if (_doubles != null && keyData instanceof EOFloatData) {
+            found = Arrays.binarySearch(_doubles, _offset, _offset + _length, keyData.asDouble());
+        } else {
+            // keys of other types are compared element by element (so that they fail to be compared with numbers)
+            return _binarySearch(i -> _compareData(_element(i)._getData(), keyData));
+        }
+        return EOint.of(found >= 0 ? found - _offset : found + _offset);
+    }
+
+    /**
+     * Searches for the {@code key} in this array sorted in accordance with the {@code comparator} object
+     * (see {@link #EOsort(EOObject)}) by means of the binary search.
+     *
+     * @param key        the object to search for.
+     * @param comparator an EO object that must have a {@code comparator} attribute (see {@link #EOmin}).
+     *                   Elements are passed to it as A (along with their indices), the {@code key} is passed as B
+     *                   (along with the index -1).
+     * @return the position of an element equal to the {@code key}, or {@code -(p + 1)} if there are no such elements,
+     * where {@code p} is the position the {@code key} would be inserted at to keep this array sorted.
+     */
+    public EOint EObinarySearch(EOObject key, EOObject comparator) {
+        EOint keyIndex = EOint.of(-1);
+        return _binarySearch(i -> _compare(comparator, _element(i), EOint.of(i), key, keyIndex));
+    }
+
+    /**
+     * Performs the binary search over the positions of this array.
+     *
+     * @param comparison compares the element at a position with the key being searched for.
+     */
+    private EOint _binarySearch(IntUnaryOperator comparison) {
+        int low = 0;
+        int high = _length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int result = comparison.applyAsInt(middle);
+            if (result < 0) {
+                low = middle + 1;
+            } else if (result > 0) {
+                high = middle - 1;
+            } else {
+                return EOint.of(middle);
+            }
+        }
+        return EOint.of(-(low + 1));
+    }
+
+    /**
+     * Checks if this array contains an element equal to the {@code element}
+     * (the elements are compared with the {@code element} the same way {@link #EOindexOf} compares them).
+     *
+     * @param element the object to search for.
+     * @return {@code true} if this array contains an element equal to the {@code element}, {@code false} otherwise.
+     */
+    public EObool EOcontains(EOObject element) {
+        return EObool.of(_indexOf(element) >= 0);
+    }
+
+    /**
+     * Counts the elements of this array equal to the {@code element}.
+     * An element is equal to the {@code element} if the {@code eq} attribute of the element holds for the {@code element}
+     * (ints, strings and bools are compared by their values, see {@link #_equal}).
+     *
+     * @param element the object to count the occurrences of.
+     * @return an {@code int} representing the number of the elements equal to the {@code element}.
+     */
+    public EOint EOcount(EOObject element) {
+        int count = 0;
+        if (_longs != null && element.getClass() == EOint.class) {
+            long value = element._getLong();
+            for (int i = _offset; i < _offset + _length; i++) {
+                if (_longs[i] == value) {
+                    count++;
+                }
+            }
+        } else if (_doubles != null && element.getClass() == EOfloat.class) {
+            double value = element._getDouble();
+            for (int i = _offset; i < _offset + _length; i++) {
+                if (_doubles[i] == value) {
+                    count++;
+                }
+            }
+        } else {
+            for (EOObject current : _elements()) {
+                if (_equal(current, element)) {
+                    count++;
                 }
-                return new EOarray(newArray);
             }
-            return this;
-        } catch (Exception e) {
-            return EOappend(obj);
         }
+        return EOint.of(count);
+    }
+
+    /**
+     * Removes the repeated elements from this array, so that only the first occurrence of each element is kept
+     * (an element is repeated if its {@code eq} attribute holds for some of the elements kept before it).
+     * The order of the kept elements is preserved.
+     * <p>
+     * Arrays of ints, strings or bools (as well as arrays of numbers) are processed in linear time by means of hashing.
+     * Other arrays are processed by comparing each element with the kept ones.
+     *
+     * @return an array of the distinct elements of this array.
+     */
+    public EOarray EOdistinct() {
+        if (_longs != null) {
+            Set<Long> seen = new HashSet<>();
+            long[] kept = new long[_length];
+            int length = 0;
+            for (int i = _offset; i < _offset + _length; i++) {
+                if (seen.add(_longs[i])) {
+                    kept[length++] = _longs[i];
+                }
+            }
+            return new EOarray(null, Arrays.copyOf(kept, length), null);
+        }
+        if (_doubles != null) {
+            Set<Double> seen = new HashSet<>();
+            double[] kept = new double[_length];
+            int length = 0;
+            for (int i = _offset; i < _offset + _length; i++) {
+                double value = _doubles[i];
+                // NaN is not equal to anything (so each NaN is kept), zeros of both signs are equal
+                if (Double.isNaN(value) || seen.add(value == 0 ? 0.0 : value)) {
+                    kept[length++] = value;
+                }
+            }
+            return new EOarray(null, null, Arrays.copyOf(kept, length));
+        }
+        EOObject[] elements = _toArray();
+        EOObject[] kept = new EOObject[elements.length];
+        int length = 0;
+        Set<Object> seen = _keySet() != null ? new HashSet<>() : null;
+        for (EOObject element : elements) {
+            boolean repeated;
+            if (seen != null) {
+                repeated = !seen.add(_key(element));
+            } else {
+                repeated = false;
+                for (int i = 0; i < length && !repeated; i++) {
+                    repeated = _equal(element, kept[i]);
+                }
+            }
+            if (!repeated) {
+                kept[length++] = element;
+            }
+        }
+        return _of(kept, length);
+    }
+
+    /**
+     * Drops the first {@code n} elements of this array.
+     * If {@code n} exceeds the length of this array, the result is empty. If {@code n} is negative, no elements are dropped.
+     * <p>
+     * This operation does not copy the elements (see {@link #EOslice}).
+     *
+     * @param n the number of the elements to drop.
+     * @return an array of the elements of this array that follow the first {@code n} ones.
+     */
+    public EOarray EOdrop(EOObject n) {
+        long count = n._getLong();
+        return _slice((int) Math.max(0, Math.min(count, _length)), _length);
     }
 
     /**
@@ -92,10 +504,29 @@ public class EOarray extends EOObject {
      * @return {@code true}.
      */
     public EObool EOeach(EOObject evaluatorObject) {
-        for (EOObject current : _array) {
+        for (EOObject current : _elements()) {
             evaluatorObject._getAttribute("EOeach", current)._getData();
         }
-        return new EObool(true);
+        return EObool.of(true);
+    }
+
+    /**
+     * Keeps the elements of this array satisfying {@code predicateObject}. The order of the kept elements is preserved.
+     *
+     * @param predicateObject an EO object that must have a {@code filter} attribute which must have a free attribute
+     *                        that receives the current element being checked.
+     *                        The {@code filter} attribute must bind an expression evaluating to a boolean to {@code @}.
+     * @return an array of the elements of this array satisfying {@code predicateObject}.
+     */
+    public EOarray EOfilter(EOObject predicateObject) {
+        EOObject[] kept = new EOObject[_length];
+        int length = 0;
+        for (EOObject element : _elements()) {
+            if (predicateObject._getAttribute("EOfilter", element)._getDecoratedObject()._getData().asBoolean()) {
+                kept[length++] = element;
+            }
+        }
+        return _of(kept, length);
     }
 
     /**
@@ -105,19 +536,19 @@ public class EOarray extends EOObject {
      * @return a copy of this array with the inserted object.
      */
     public EOint EOfind(EOObject from, EOObject validator) {
-        int index  = from._getData().toInt().intValue();
-        if (index > _array.size() || index < 0) {
-            return new EOint(-1L);
+        int index  = (int) from._getLong();
+        if (index > _size() || index < 0) {
+            return EOint.of(-1L);
         }
-        for(int i = index; i < _array.size(); i++){
+        for(int i = index; i < _size(); i++){
             try {
-                if(validator._getAttribute("EOvalidator", _array.get(i))._getDecoratedObject()._getData().toBoolean())
-                    return new EOint(i);
+                if(validator._getAttribute("EOvalidator", _element(i))._getDecoratedObject()._getData().asBoolean())
+                    return EOint.of(i);
             } catch (Exception e) {
-                return new EOint(-1L);
+                return EOint.of(-1L);
             }
         }
-        return new EOint(-1L);
+        return EOint.of(-1L);
     }
 
     /**
@@ -129,8 +560,8 @@ public class EOarray extends EOObject {
      *                                   (i.e., {@code array.length <= i < 0}).
      */
     public EOObject EOget(EOObject i) {
-        int position = i._getData().toInt().intValue();
-        if (position >= _array.size() || position < 0) {
+        int position = (int) i._getLong();
+        if (position >= _size() || position < 0) {
             throw new IndexOutOfBoundsException(
                     String.format(
                             "Cannot retrieve the element at the position %d of the following array: %s. The index is out of bounds.",
@@ -139,7 +570,51 @@ public class EOarray extends EOObject {
                     )
             );
         }
-        return _array.get(position);
+        return _element(position);
+    }
+
+    /**
+     * Searches for the first element of this array equal to the {@code element}.
+     * An element is equal to the {@code element} if the {@code eq} attribute of the {@code element} holds for the element
+     * (ints, strings and bools are compared by their values, see {@link #_equal}).
+     *
+     * @param element the object to search for.
+     * @return the position of the first element equal to the {@code element}, or {@code -1} if there are no such elements.
+     */
+    public EOint EOindexOf(EOObject element) {
+        return EOint.of(_indexOf(element));
+    }
+
+    /**
+     * Searches for the first element of this array equal to the {@code element} (see {@link #EOindexOf}).
+     */
+    private int _indexOf(EOObject element) {
+        if (_longs != null && element.getClass() == EOint.class) {
+            long value = element._getLong();
+            for (int i = 0; i < _length; i++) {
+                if (_longs[_offset + i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        if (_doubles != null && element.getClass() == EOfloat.class) {
+            double value = element._getDouble();
+            for (int i = 0; i < _length; i++) {
+                if (_doubles[_offset + i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int i = 0;
+        for (EOObject current : _elements()) {
+            if (_equal(element, current)) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
     }
 
     /**
@@ -151,8 +626,8 @@ public class EOarray extends EOObject {
      *                                   (i.e., {@code array.length <= i < 0}).
      */
     public EOarray EOinsert(EOObject obj, EOObject i) {
-        int index  = i._getData().toInt().intValue();
-        if (index > _array.size() || index < 0) {
+        int index  = (int) i._getLong();
+        if (index > _size() || index < 0) {
             throw new IndexOutOfBoundsException(
                     String.format(
                             "Cannot insert the object at the position %d of the following array: %s. The index is out of bounds.",
@@ -161,13 +636,56 @@ public class EOarray extends EOObject {
                     )
             );
         }
-        EOObject[] newArray = new EOObject[_array.size() + 1];
-        if(index>0)
-            System.arraycopy(_array.toArray(), 0, newArray, 0, index);
-        newArray[index] = obj;
-        if(index<_array.size())
-            System.arraycopy(_array.toArray(), index, newArray, index+1, _array.size() - index);
-        return new EOarray(newArray);
+        if (index == _size()) {
+            return EOappend(obj);
+        }
+        if (_longs != null && obj.getClass() == EOint.class) {
+            long[] newArray = new long[_length + 1];
+            System.arraycopy(_longs, _offset, newArray, 0, index);
+            newArray[index] = obj._getLong();
+            System.arraycopy(_longs, _offset + index, newArray, index + 1, _length - index);
+            return new EOarray(null, newArray, null);
+        }
+        if (_doubles != null && obj.getClass() == EOfloat.class) {
+            double[] newArray = new double[_length + 1];
+            System.arraycopy(_doubles, _offset, newArray, 0, index);
+            newArray[index] = obj._getDouble();
+            System.arraycopy(_doubles, _offset + index, newArray, index + 1, _length - index);
+            return new EOarray(null, null, newArray);
+        }
+        EOVector.Builder newArray = new EOVector.Builder(_size() + 1);
+        int position = 0;
+        for (EOObject current : _elements()) {
+            if (position++ == index) {
+                newArray.add(obj);
+            }
+            newArray.add(current);
+        }
+        return new EOarray(newArray.build(), null, null);
+    }
+
+    /**
+     * Makes an array of the distinct elements of this array (see {@link #EOdistinct}) that {@code other} array contains
+     * (see {@link #EOcontains}). The order of the elements of this array is preserved.
+     *
+     * @param other an array (or an object that has the {@code length} and {@code get} attributes of arrays).
+     * @return an array of the distinct elements that both arrays contain.
+     */
+    public EOarray EOintersect(EOObject other) {
+        EOarray that = _arrayOf(other);
+        Set<Object> keys = that._keySet();
+        Class<?> kind = keys == null || keys.isEmpty() ? null : keys.iterator().next().getClass();
+        EOarray distinct = EOdistinct();
+        EOObject[] kept = new EOObject[distinct._size()];
+        int length = 0;
+        for (EOObject element : distinct._elements()) {
+            Object key = kind != null ? _key(element) : null;
+            boolean contained = key != null && key.getClass() == kind ? keys.contains(key) : that._indexOf(element) >= 0;
+            if (contained) {
+                kept[length++] = element;
+            }
+        }
+        return _of(kept, length);
     }
 
     /**
@@ -176,7 +694,17 @@ public class EOarray extends EOObject {
      * @return {@code true} if this array is empty, otherwise {@code false}.
      */
     public EObool EOisEmpty() {
-        return new EObool(_array.isEmpty());
+        return EObool.of(_size() == 0);
+    }
+
+    /**
+     * Makes a lazy pipeline over this array (see {@link EOpipeline}): the maps and the filters applied to the pipeline
+     * are fused and performed in a single pass over this array, only when the result is needed.
+     *
+     * @return a pipeline with no stages yet.
+     */
+    public EOpipeline EOlazy() {
+        return new EOpipeline(this);
     }
 
     /**
@@ -185,7 +713,7 @@ public class EOarray extends EOObject {
      * @return an {@code int} representing the length of this array.
      */
     public EOint EOlength() {
-        return new EOint(_array.size());
+        return EOint.of(_size());
     }
 
     /**
@@ -202,12 +730,12 @@ public class EOarray extends EOObject {
      * @return an {@code array} object containing mapped elements.
      */
     public EOarray EOmap(EOObject mapperObject) {
-        int length = _array.size();
-        EOObject[] mappedArray = new EOObject[length];
-        for (int i = 0; i < length; i++) {
-            mappedArray[i] = mapperObject._getAttribute("EOmap", _array.get(i))._getDecoratedObject();
+        EOObject[] mappedArray = new EOObject[_size()];
+        int i = 0;
+        for (EOObject current : _elements()) {
+            mappedArray[i++] = mapperObject._getAttribute("EOmap", current)._getDecoratedObject();
         }
-        return new EOarray(mappedArray);
+        return _of(mappedArray, mappedArray.length);
     }
 
     /**
@@ -226,12 +754,13 @@ public class EOarray extends EOObject {
      * @return an {@code array} object containing mapped elements.
      */
     public EOarray EOmapi(EOObject mapperObject) {
-        int length = _array.size();
-        EOObject[] mappedArray = new EOObject[length];
-        for (int i = 0; i < length; i++) {
-            mappedArray[i] = mapperObject._getAttribute("EOmapi", _array.get(i), new EOint(i))._getDecoratedObject();
+        EOObject[] mappedArray = new EOObject[_size()];
+        int i = 0;
+        for (EOObject current : _elements()) {
+            mappedArray[i] = mapperObject._getAttribute("EOmapi", current, EOint.of(i))._getDecoratedObject();
+            i++;
         }
-        return new EOarray(mappedArray);
+        return _of(mappedArray, mappedArray.length);
     }
 
     /**
@@ -258,43 +787,43 @@ public class EOarray extends EOObject {
      */
     public EOint EOmin(EOObject comparator) {
         // empty arrays have no minimums
-        if (_array.isEmpty()) {
-            return new EOint(-1);
+        if (_size() == 0) {
+            return EOint.of(-1);
         }
         // one-element arrays have their minimums at the 0th position
-        if (_array.size() == 1) {
-            return new EOint(0);
+        if (_size() == 1) {
+            return EOint.of(0);
         }
         // consider the first element as the minimum
         int currentMinIndex = 0;
-        EOObject currentMin = _array.get(currentMinIndex);
+        EOObject currentMin = _element(currentMinIndex);
         // try to find an element that would be less that the first
         boolean allEqual = true;
-        for (int i = 1; i < _array.size(); i++) {
+        for (int i = 1; i < _size(); i++) {
             EOObject comparison = comparator
                     ._getAttribute
                             (
                               "EOcomparator",
                                     currentMin,
-                                    new EOint(currentMinIndex),
-                                    _array.get(i),
-                                    new EOint(i)
+                                    EOint.of(currentMinIndex),
+                                    _element(i),
+                                    EOint.of(i)
                             )._getDecoratedObject();
-            long comparisonResult = comparison._getData().toInt();
+            long comparisonResult = comparison._getLong();
             if (comparisonResult != 0) {
                 allEqual = false;
             }
             if (comparisonResult == 1) {
                 currentMinIndex = i;
-                currentMin = _array.get(currentMinIndex);
+                currentMin = _element(currentMinIndex);
             }
         }
 
         if (allEqual) {
-            return new EOint(-1);
+            return EOint.of(-1);
         }
         else {
-            return new EOint(currentMinIndex);
+            return EOint.of(currentMinIndex);
         }
     }
 
@@ -314,7 +843,7 @@ public class EOarray extends EOObject {
      */
     public EOarray EOpairs() {
         return new EOarray(
-                Generator.combination(this._array.toArray(EOObject[]::new))
+                Generator.combination(this._toArray())
                         .simple(2)
                         .stream()
                         .map(pair -> new EOtuple(pair.get(0), pair.get(1)))
@@ -322,6 +851,175 @@ public class EOarray extends EOObject {
         );
     }
 
+    /**
+     * Sorts this array in the natural order in parallel (see {@link #EOsort()}) by means of {@link Arrays#parallelSort}.
+     *
+     * @return a sorted copy of this array.
+     */
+    public EOarray EOparallelSort() {
+        return _sortNaturally(true);
+    }
+
+    /**
+     * Sorts this array in accordance with the {@code comparator} object in parallel (see {@link #EOsort(EOObject)})
+     * by means of {@link Arrays#parallelSort} (on the common fork/join pool).
+     * Thus, the comparator must be safe to apply concurrently (e.g., it must have no side effects).
+     *
+     * @param comparator an EO object that must have a {@code comparator} attribute (see {@link #EOmin}).
+     * @return a sorted copy of this array.
+     */
+    public EOarray EOparallelSort(EOObject comparator) {
+        return _sort(comparator, true);
+    }
+
+    /**
+     * Transforms this array in accordance with {@code mapperObject} in parallel (on the current fork/join pool,
+     * or on the common one). The result is the same as the result of {@link #EOmap}, yet the elements are mapped
+     * on several threads, and the mapped objects whose data is memoized (i.e., pure objects) are dataized there, too.
+     * Thus, the mapper must be safe to apply concurrently (e.g., it must have no side effects).
+     * Arrays shorter than {@link #PARALLEL_THRESHOLD} are mapped sequentially.
+     *
+     * @param mapperObject an EO object that must have a {@code pmap} attribute which must have a free attribute
+     *                     that receives the current element being transformed (see {@link #EOmap}).
+     * @return an {@code array} object containing mapped elements.
+     */
+    public EOarray EOpmap(EOObject mapperObject) {
+        EOObject[] mappedArray = new EOObject[_length];
+        new Chunks(0, _length, _cutoff(), i -> {
+            mappedArray[i] = mapperObject._getAttribute("EOpmap", _element(i))._getDecoratedObject();
+            mappedArray[i]._prefetchData();
+        }).invoke();
+        return _of(mappedArray, mappedArray.length);
+    }
+
+    /**
+     * Transforms this array in accordance with {@code mapperObject} in parallel considering indices of elements
+     * (see {@link #EOpmap} and {@link #EOmapi}).
+     *
+     * @param mapperObject an EO object that must have a {@code pmapi} attribute which must have two free attributes:
+     *                     1. The first free attribute receives the current element being transformed.
+     *                     2. The second free attribute receives the index of the current element being transformed.
+     * @return an {@code array} object containing mapped elements.
+     */
+    public EOarray EOpmapi(EOObject mapperObject) {
+        EOObject[] mappedArray = new EOObject[_length];
+        new Chunks(0, _length, _cutoff(), i -> {
+            mappedArray[i] = mapperObject._getAttribute("EOpmapi", _element(i), EOint.of(i))._getDecoratedObject();
+            mappedArray[i]._prefetchData();
+        }).invoke();
+        return _of(mappedArray, mappedArray.length);
+    }
+
+    /**
+     * Performs the operation of reduction of this array in parallel (see {@link #EOpmap}).
+     * The array is split into chunks, each chunk is reduced starting from the {@code identity},
+     * and the results of the chunks are combined (in order) by the same {@code reducerObject}.
+     * Thus, the result is the same as the result of {@link #EOreduce} only if the reduction technique is associative
+     * and the {@code identity} is its identity element (e.g., {@code add} and {@code 0}).
+     *
+     * @param identity      the identity element of the reduction technique (the result for empty arrays).
+     * @param reducerObject an EO object that must have a {@code preduce} attribute which must have two free attributes:
+     *                      1. The first free attribute receives the current value of the accumulator.
+     *                      2. The second free attribute receives the current element being operated over
+     *                      (or the value of the accumulator of the next chunk when the chunks are combined).
+     *                      The order of the free attributes matters, and their names do not.
+     * @return the result of reduction.
+     */
+    public EOObject EOpreduce(EOObject identity, EOObject reducerObject) {
+        return new Reduction(0, _length, _cutoff(), identity, reducerObject).invoke();
+    }
+
+    /**
+     * Determines the number of elements processed sequentially by a single chunk of a parallel operation.
+     */
+    private int _cutoff() {
+        if (_length < PARALLEL_THRESHOLD) {
+            return Math.max(_length, 1);
+        }
+        ForkJoinPool pool = ForkJoinTask.inForkJoinPool() ? ForkJoinTask.getPool() : ForkJoinPool.commonPool();
+        return Math.max(_length / (pool.getParallelism() * CHUNKS_PER_THREAD), 1);
+    }
+
+    /**
+     * Applies an action to the positions of elements splitting them into chunks that are processed in parallel.
+     */
+    private static final class Chunks extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int cutoff;
+        private final IntConsumer action;
+
+        private Chunks(int from, int to, int cutoff, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= cutoff) {
+                for (int i = from; i < to; i++) {
+                    action.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Chunks(from, middle, cutoff, action), new Chunks(middle, to, cutoff, action));
+        }
+    }
+
+    /**
+     * Reduces the elements at a range of positions splitting them into chunks that are reduced in parallel.
+     */
+    private final class Reduction extends RecursiveTask<EOObject> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        private final int cutoff;
+        private final EOObject identity;
+        private final EOObject reducer;
+
+        private Reduction(int from, int to, int cutoff, EOObject identity, EOObject reducer) {
+            this.from = from;
+            this.to = to;
+            this.cutoff = cutoff;
+            this.identity = identity;
+            this.reducer = reducer;
+        }
+
+        @Override
+        protected EOObject compute() {
+            if (to - from <= cutoff) {
+                EOObject out = identity;
+                for (int i = from; i < to; i++) {
+                    out = reduce(out, _element(i));
+                }
+                return out;
+            }
+            int middle = (from + to) >>> 1;
+            Reduction left = new Reduction(from, middle, cutoff, identity, reducer);
+            left.fork();
+            EOObject right = new Reduction(middle, to, cutoff, identity, reducer).compute();
+            return reduce(left.join(), right);
+        }
+
+        /**
+         * Applies the reduction technique to the {@code accumulator} and the {@code element}
+         * dataizing the result in advance (so that long chains of accumulators are not dataized recursively later).
+         */
+        private EOObject reduce(EOObject accumulator, EOObject element) {
+            EOObject out = reducer._getAttribute("EOpreduce", accumulator, element)._getDecoratedObject();
+            out._prefetchData();
+            return out;
+        }
+    }
+
     /**
      * Performs the operation of reduction of this array
      * (i.e., this method transforms this array into a single value in accordance with {@code reducerObject}).
@@ -336,7 +1034,7 @@ public class EOarray extends EOObject {
      */
     public EOObject EOreduce(EOObject accumulator, EOObject reducerObject) {
         EOObject out = accumulator;
-        for (EOObject eoObject : _array) {
+        for (EOObject eoObject : _elements()) {
             out = reducerObject._getAttribute("EOreduce", out, eoObject)._getDecoratedObject();
         }
         return out;
@@ -358,9 +1056,9 @@ public class EOarray extends EOObject {
      */
     public EOObject EOreducei(EOObject accumulator, EOObject reducerObject) {
         EOObject out = accumulator;
-        int length = _array.size();
-        for (int i = 0; i < length; i++) {
-            out = reducerObject._getAttribute("EOreducei", out, _array.get(i), new EOint(i))._getDecoratedObject();
+        int i = 0;
+        for (EOObject current : _elements()) {
+            out = reducerObject._getAttribute("EOreducei", out, current, EOint.of(i++))._getDecoratedObject();
         }
         return out;
     }
@@ -374,9 +1072,9 @@ public class EOarray extends EOObject {
      */
     public EOarray EOremove(EOObject i) {
         // retrieve the position to change the value at
-        int position = i._getData().toInt().intValue();
+        int position = (int) i._getLong();
         // check if the position is correct
-        if (position >= _array.size() || position < 0) {
+        if (position >= _size() || position < 0) {
             throw new IndexOutOfBoundsException(
                     String.format(
                             "Cannot remove the element at the position %d of the following array: %s. The index is out of bounds.",
@@ -386,12 +1084,26 @@ public class EOarray extends EOObject {
             );
         }
         // copy the array removing the specified element
-        EOObject[] newArray = new EOObject[_array.size()-1];
-        if(position>0)
-            System.arraycopy(_array.toArray(), 0, newArray, 0, position);
-        if(position<_array.size()-1)
-            System.arraycopy(_array.toArray(), position+1, newArray, position, _array.size() - position - 1);
-        return new EOarray(newArray);
+        if (_longs != null) {
+            long[] newArray = new long[_length - 1];
+            System.arraycopy(_longs, _offset, newArray, 0, position);
+            System.arraycopy(_longs, _offset + position + 1, newArray, position, newArray.length - position);
+            return newArray.length == 0 ? new EOarray() : new EOarray(null, newArray, null);
+        }
+        if (_doubles != null) {
+            double[] newArray = new double[_length - 1];
+            System.arraycopy(_doubles, _offset, newArray, 0, position);
+            System.arraycopy(_doubles, _offset + position + 1, newArray, position, newArray.length - position);
+            return newArray.length == 0 ? new EOarray() : new EOarray(null, null, newArray);
+        }
+        EOVector.Builder newArray = new EOVector.Builder(_size() - 1);
+        int index = 0;
+        for (EOObject current : _elements()) {
+            if (index++ != position) {
+                newArray.add(current);
+            }
+        }
+        return new EOarray(newArray.build(), null, null);
     }
 
     /**
@@ -404,9 +1116,9 @@ public class EOarray extends EOObject {
      */
     public EOarray EOreplace(EOObject i, EOObject newValue) {
         // retrieve the position to change the value at
-        int position = i._getData().toInt().intValue();
+        int position = (int) i._getLong();
         // check if the position is correct
-        if (position >= _array.size() || position < 0) {
+        if (position >= _size() || position < 0) {
             throw new IndexOutOfBoundsException(
                     String.format(
                             "Cannot replace the element at the position %d of the following array: %s with the new value %s. The index is out of bounds.",
@@ -416,11 +1128,8 @@ public class EOarray extends EOObject {
                     )
             );
         }
-        // copy the array replacing the specified element with the new value
-        EOObject[] newArray = new EOObject[_array.size()];
-        System.arraycopy(_array.toArray(), 0, newArray, 0, _array.size());
-        newArray[position] = newValue;
-        return new EOarray(newArray);
+        // copy the path to the specified element replacing it with the new value
+        return new EOarray(_vector().set(position, Objects.requireNonNull(newValue)), null, null);
     }
 
     /**
@@ -429,11 +1138,340 @@ public class EOarray extends EOObject {
      * @return a reversed copy of this array.
      */
     public EOarray EOreverse() {
-        EOObject[] newArray = new EOObject[_array.size()];
-        for (int i = _array.size()-1; i >= 0; i--) {
-             newArray[_array.size()-1-i] = _array.get(i);
+        int last = _offset + _length - 1;
+        if (_longs != null) {
+            long[] newArray = new long[_length];
+            for (int i = 0; i < newArray.length; i++) {
+                newArray[i] = _longs[last - i];
+            }
+            return new EOarray(null, newArray, null);
+        }
+        if (_doubles != null) {
+            double[] newArray = new double[_length];
+            for (int i = 0; i < newArray.length; i++) {
+                newArray[i] = _doubles[last - i];
+            }
+            return new EOarray(null, null, newArray);
+        }
+        EOObject[] elements = _toArray();
+        EOVector.Builder newArray = new EOVector.Builder(elements.length);
+        for (int i = elements.length - 1; i >= 0; i--) {
+            newArray.add(elements[i]);
         }
-        return new EOarray(newArray);
+        return new EOarray(newArray.build(), null, null);
+    }
+
+    /**
+     * Retrieves the elements of this array at the positions from {@code from} (inclusive) to {@code to} (exclusive).
+     * If {@code from} is not less than {@code to}, the result is empty.
+     * <p>
+     * This operation neither mutates, nor copies this array:
+     * the resulting array is a view of the elements of this array (it takes constant time and memory).
+     * Yet a view that keeps a small part of a large array copies its elements instead,
+     * so that the large array does not stay in memory because of the view.
+     *
+     * @param from the position of the first element of the slice.
+     * @param to the position that follows the last element of the slice.
+     * @return an array of the elements of this array at the positions from {@code from} to {@code to}.
+     * @throws IndexOutOfBoundsException if the slice is not empty and its positions are out of bounds of this array
+     *                                   (i.e., {@code from < 0} or {@code array.length < to}).
+     */
+    public EOarray EOslice(EOObject from, EOObject to) {
+        long start = from._getLong();
+        long end = to._getLong();
+        if (start >= end) {
+            return new EOarray();
+        }
+        if (start < 0 || end > _length) {
+            throw new IndexOutOfBoundsException(
+                    String.format(
+                            "Cannot slice the elements at the positions from %d to %d of the following array: %s. The indices are out of bounds.",
+                            start,
+                            end,
+                            this
+                    )
+            );
+        }
+        return _slice((int) start, (int) end);
+    }
+
+    /**
+     * Sorts this array in the natural order, i.e., in the order of the data behind the elements:
+     * integers and floats are ordered as numbers, strings and chars are ordered lexicographically
+     * (floats are ordered as {@link Double#compare} orders them, i.e., -0.0 precedes 0.0 and NaN is the greatest).
+     * Arrays of numbers are sorted as they are, other arrays are dataized first (each element only once).
+     * The sorting is stable: equal elements keep their order.
+     * <p>
+     * This operation does not mutate the original array.
+     *
+     * @return a sorted copy of this array.
+     * @throws RuntimeException if the data behind some elements cannot be compared
+     *                          (e.g., an integer and a string, or booleans).
+     */
+    public EOarray EOsort() {
+        return _sortNaturally(false);
+    }
+
+    /**
+     * Sorts this array in accordance with the {@code comparator} object by means of TimSort
+     * (i.e., in O(n log n) comparisons, and in O(n) comparisons for arrays that are sorted already).
+     * The sorting is stable: elements the comparator considers equal keep their order.
+     * <p>
+     * This operation does not mutate the original array.
+     *
+     * @param comparator an EO object that must have a {@code comparator} attribute (see {@link #EOmin}):
+     *                   it receives the elements A and B along with their indices in this array
+     *                   and evaluates to -1, 0 or 1 if A is less than, equal to or greater than B.
+     * @return a sorted copy of this array.
+     * @throws IllegalArgumentException if the comparator is found to be inconsistent.
+     */
+    public EOarray EOsort(EOObject comparator) {
+        return _sort(comparator, false);
+    }
+
+    /**
+     * Sorts this array in the natural order (see {@link #EOsort()}).
+     *
+     * @param parallel Should the sorting be performed in parallel?
+     */
+    private EOarray _sortNaturally(boolean parallel) {
+        if (_longs != null) {
+            long[] sorted = Arrays.copyOfRange(_longs, _offset, _offset + _length);
+            if (parallel) {
+                Arrays.parallelSort(sorted);
+            } else {
+                Arrays.sort(sorted);
+            }
+            return new EOarray(null, sorted, null);
+        }
+        if (_doubles != null) {
+            double[] sorted = Arrays.copyOfRange(_doubles, _offset, _offset + _length);
+            if (parallel) {
+                Arrays.parallelSort(sorted);
+            } else {
+                Arrays.sort(sorted);
+            }
+            return new EOarray(null, null, sorted);
+        }
+        EOObject[] elements = _toArray();
+        EOData[] keys = new EOData[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = elements[i]._getData();
+        }
+        return _reorder(elements, (i, j) -> _compareData(keys[i], keys[j]), parallel);
+    }
+
+    /**
+     * Sorts this array in accordance with the {@code comparator} object (see {@link #EOsort(EOObject)}).
+     *
+     * @param parallel Should the sorting be performed in parallel?
+     */
+    private EOarray _sort(EOObject comparator, boolean parallel) {
+        EOObject[] elements = _toArray();
+        return _reorder(
+                elements,
+                (i, j) -> _compare(comparator, elements[i], EOint.of(i), elements[j], EOint.of(j)),
+                parallel
+        );
+    }
+
+    /**
+     * Makes an array of the {@code elements} sorted by their positions (so that the sorting is stable
+     * and the comparisons know the positions of the elements).
+     *
+     * @param order      compares the elements at two positions.
+     * @param parallel   Should the sorting be performed in parallel?
+     */
+    private static EOarray _reorder(EOObject[] elements, Comparator<Integer> order, boolean parallel) {
+        Integer[] positions = new Integer[elements.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        if (parallel) {
+            Arrays.parallelSort(positions, order);
+        } else {
+            Arrays.sort(positions, order);
+        }
+        EOObject[] sorted = new EOObject[elements.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = elements[positions[i]];
+        }
+        return _of(sorted, sorted.length);
+    }
+
+    /**
+     * Compares the objects {@code a} and {@code b} (at the positions {@code indexA} and {@code indexB})
+     * by means of the {@code comparator} object (see {@link #EOmin}).
+     *
+     * @return the sign of the comparison result.
+     */
+    private static int _compare(EOObject comparator, EOObject a, EOint indexA, EOObject b, EOint indexB) {
+        return Long.signum(comparator._getAttribute("EOcomparator", a, indexA, b, indexB)._getDecoratedObject()._getLong());
+    }
+
+    /**
+     * Compares the data {@code a} and {@code b} in the natural order (see {@link #EOsort()}).
+     *
+     * @throws RuntimeException if the data cannot be compared.
+     */
+    private static int _compareData(EOData a, EOData b) {
+        if (a instanceof EOIntData && b instanceof EOIntData) {
+            return Long.compare(a.asLong(), b.asLong());
+        }
+        if (a instanceof EOFloatData && b instanceof EOFloatData) {
+            return Double.compare(a.asDouble(), b.asDouble());
+        }
+        if (a instanceof EOStringData && b instanceof EOStringData && !(a instanceof EONoData) && !(b instanceof EONoData)) {
+            return a.toString().compareTo(b.toString());
+        }
+        if (a instanceof EOCharData && b instanceof EOCharData) {
+            return Character.compare(a.asChar(), b.asChar());
+        }
+        throw new RuntimeException(
+                String.format("Cannot compare the data %s and %s: they are neither numbers of the same type, nor texts.", a, b)
+        );
+    }
+
+    /**
+     * Takes the first {@code n} elements of this array.
+     * If {@code n} exceeds the length of this array, the result is the whole array. If {@code n} is negative, the result is empty.
+     * <p>
+     * This operation does not copy the elements (see {@link #EOslice}).
+     *
+     * @param n the number of the elements to take.
+     * @return an array of the first {@code n} elements of this array.
+     */
+    public EOarray EOtake(EOObject n) {
+        long count = n._getLong();
+        return _slice(0, (int) Math.max(0, Math.min(count, _length)));
+    }
+
+    /**
+     * Makes an array of the distinct elements of this array followed by the elements of {@code other} array
+     * this array does not contain (the elements of both arrays are processed as {@link #EOdistinct} processes them).
+     *
+     * @param other an array (or an object that has the {@code length} and {@code get} attributes of arrays).
+     * @return an array of the distinct elements that either of the arrays contains.
+     */
+    public EOarray EOunion(EOObject other) {
+        EOarray that = _arrayOf(other);
+        EOObject[] elements = new EOObject[_length + that._length];
+        int length = 0;
+        for (EOObject element : _elements()) {
+            elements[length++] = element;
+        }
+        for (EOObject element : that._elements()) {
+            elements[length++] = element;
+        }
+        return _of(elements, length).EOdistinct();
+    }
+
+    /**
+     * Retrieves the {@code obj} array as an {@code EOarray}
+     * (an object that is not an {@code EOarray} is read by means of its {@code length} and {@code get} attributes).
+     */
+    private static EOarray _arrayOf(EOObject obj) {
+        if (obj instanceof EOarray) {
+            return (EOarray) obj;
+        }
+        int length = (int) obj._getAttribute("EOlength")._getLong();
+        EOObject[] elements = new EOObject[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = obj._getAttribute("EOget", EOint.of(i));
+        }
+        return _of(elements, length);
+    }
+
+    /**
+     * Retrieves the value the {@code element} is compared by if it is an int, a string or a bool
+     * (these objects are equal if and only if their values are equal), or null otherwise.
+     */
+    private static Object _key(EOObject element) {
+        Class<?> type = element.getClass();
+        if (type == EOint.class) {
+            return element._getLong();
+        }
+        if (type == EOstring.class) {
+            return element._getData().toString();
+        }
+        if (type == EObool.class) {
+            return element._getData().asBoolean();
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the set of the values the elements of this array are compared by (see {@link #_key})
+     * if all of them are objects of the same type that is compared by values, or null otherwise.
+     */
+    private Set<Object> _keySet() {
+        Set<Object> keys = new HashSet<>();
+        if (_longs != null) {
+            for (int i = _offset; i < _offset + _length; i++) {
+                keys.add(_longs[i]);
+            }
+            return keys;
+        }
+        if (_doubles != null) {
+            return null;
+        }
+        Class<?> kind = null;
+        for (EOObject element : _elements()) {
+            Object key = _key(element);
+            if (key == null || (kind != null && key.getClass() != kind)) {
+                return null;
+            }
+            kind = key.getClass();
+            keys.add(key);
+        }
+        return keys;
+    }
+
+    /**
+     * Checks if the {@code eq} attribute of the {@code receiver} holds for the {@code other} object.
+     * Ints, strings and bools compared with objects of the same type are compared by their values directly
+     * (this is what their {@code eq} attributes do).
+     */
+    private static boolean _equal(EOObject receiver, EOObject other) {
+        Object key = _key(receiver);
+        if (key != null) {
+            Object otherKey = _key(other);
+            if (otherKey != null && otherKey.getClass() == key.getClass()) {
+                return key.equals(otherKey);
+            }
+        }
+        return receiver._getAttribute("EOeq", other)._getData().asBoolean();
+    }
+
+    /**
+     * Makes an array of the elements of this array at the positions from {@code from} to {@code to}
+     * (the positions are within the bounds of this array).
+     * The array views the underlying data structure of this array, unless the view would keep
+     * a small part of a large data structure (see {@link #COMPACTION_RATIO}), in which case the elements are copied.
+     */
+    private EOarray _slice(int from, int to) {
+        int length = to - from;
+        if (length <= 0) {
+            return new EOarray();
+        }
+        if (length == _length) {
+            return this;
+        }
+        int offset = _offset + from;
+        if (_capacity() >= COMPACTION_THRESHOLD && (long) length * COMPACTION_RATIO < _capacity()) {
+            if (_longs != null) {
+                return new EOarray(null, Arrays.copyOfRange(_longs, offset, offset + length), null);
+            }
+            if (_doubles != null) {
+                return new EOarray(null, null, Arrays.copyOfRange(_doubles, offset, offset + length));
+            }
+            EOVector.Builder vector = new EOVector.Builder(length);
+            for (Iterator<EOObject> elements = _array.iterator(offset, offset + length); elements.hasNext(); ) {
+                vector.add(elements.next());
+            }
+            return new EOarray(vector.build(), null, null);
+        }
+        return new EOarray(_array, _longs, _doubles, offset, length);
     }
 
     /**
@@ -442,7 +1480,7 @@ public class EOarray extends EOObject {
      * Determines if this array is equal to the {@code o} object.
      * To do it, this method checks that the {@code o} object is an array
      * and it contains similar elements by delegating equality checks to
-     * the elements themselves.
+     * the elements themselves (arrays of numbers compare the numbers).
      * <p>
      * This method can be called only in the testing environment
      * since all methods within the EO environment have the 'EO' prefix.
@@ -452,12 +1490,27 @@ public class EOarray extends EOObject {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         EOarray eOarray = (EOarray) o;
-        return _array.equals(eOarray._array);
+        if (_longs != null && eOarray._longs != null) {
+            return Arrays.equals(
+                    _longs, _offset, _offset + _length,
+                    eOarray._longs, eOarray._offset, eOarray._offset + eOarray._length
+            );
+        }
+        if (_doubles != null && eOarray._doubles != null) {
+            return Arrays.equals(
+                    _doubles, _offset, _offset + _length,
+                    eOarray._doubles, eOarray._offset, eOarray._offset + eOarray._length
+            );
+        }
+        return _vector().equals(eOarray._vector());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(_array);
+        if (_doubles != null) {
+            return Arrays.hashCode(Arrays.copyOfRange(_doubles, _offset, _offset + _length));
+        }
+        return Objects.hash(_vector());
     }
 
     /**
@@ -479,10 +1532,10 @@ public class EOarray extends EOObject {
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder("array([");
-        for (EOObject o : _array) {
+        for (EOObject o : _elements()) {
             sb.append(o.toString()).append(", ");
         }
-        if (_array.size() > 0) {
+        if (_size() > 0) {
             sb.delete(sb.length() - 2, sb.length());
         }
         sb.append("])");
@@ -1,6 +1,7 @@
 package org.eolang;
 
 import org.eolang.core.EOObject;
+import org.eolang.core.data.EOCharData;
 import org.eolang.core.data.EOData;
 
 /***
@@ -16,7 +17,7 @@ public class EOchar extends EOObject {
 
     @Override
     public EOData _getData() {
-        return new EOData(characterValue);
+        return new EOCharData(characterValue);
     }
 
     /***
@@ -2,6 +2,7 @@ package org.eolang;
 
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOFloatData;
 
 /***
  * Represents a float number
@@ -17,7 +18,12 @@ public class EOfloat extends EOObject {
 
     @Override
     public EOData _getData() {
-        return new EOData(value);
+        return new EOFloatData(value);
+    }
+
+    @Override
+    public double _getDouble() {
+        return value;
     }
 
     /***
@@ -26,7 +32,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the sum of this float and the {@code rightAddend} free attribute
      */
     public EOfloat EOadd(EOObject rightAddend) {
-        return new EOfloat(this.value + rightAddend._getData().toFloat());
+        return new EOfloat(this.value + rightAddend._getDouble());
     }
 
     /***
@@ -35,7 +41,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the difference between of this float and the {@code subtrahend} free attribute
      */
     public EOfloat EOsub(EOObject subtrahend) {
-        return new EOfloat(this.value - subtrahend._getData().toFloat());
+        return new EOfloat(this.value - subtrahend._getDouble());
     }
 
     /***
@@ -44,10 +50,11 @@ public class EOfloat extends EOObject {
      * @return An object representing the quotient of this float divided by the {@code divisor} free attribute
      */
     public EOfloat EOdiv(EOObject divisor) {
-        if (divisor._getData().toFloat() == 0.0) {
+        double divisorValue = divisor._getDouble();
+        if (divisorValue == 0.0) {
             throw new ArithmeticException("Division by zero not possible");
         }
-        return new EOfloat(this.value / divisor._getData().toFloat());
+        return new EOfloat(this.value / divisorValue);
     }
 
     /***
@@ -56,7 +63,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the product of this float and the {@code multiplier} free attribute
      */
     public EOfloat EOmul(EOObject multiplier) {
-        return new EOfloat(this.value * multiplier._getData().toFloat());
+        return new EOfloat(this.value * multiplier._getDouble());
     }
 
     /***
@@ -65,7 +72,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOeq(EOObject rightFloat) {
-        return new EObool(this.value == rightFloat._getData().toFloat());
+        return EObool.of(this.value == rightFloat._getDouble());
     }
 
     /***
@@ -74,7 +81,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOneq(EOObject rightFloat) {
-        return new EObool(this.value != rightFloat._getData().toFloat());
+        return EObool.of(this.value != rightFloat._getDouble());
     }
 
     /***
@@ -83,7 +90,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOless(EOObject rightFloat) {
-        return new EObool(this.value < rightFloat._getData().toFloat());
+        return EObool.of(this.value < rightFloat._getDouble());
     }
 
     /***
@@ -92,7 +99,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOleq(EOObject rightFloat) {
-        return new EObool(this.value <= rightFloat._getData().toFloat());
+        return EObool.of(this.value <= rightFloat._getDouble());
     }
 
     /***
@@ -101,7 +108,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOgreater(EOObject rightFloat) {
-        return new EObool(this.value > rightFloat._getData().toFloat());
+        return EObool.of(this.value > rightFloat._getDouble());
     }
 
     /***
@@ -110,7 +117,7 @@ public class EOfloat extends EOObject {
      * @return A boolean representing the truth value of the comparison of this float with the {@code rightFloat} free attribute
      */
     public EObool EOgeq(EOObject rightFloat) {
-        return new EObool(this.value >= rightFloat._getData().toFloat());
+        return EObool.of(this.value >= rightFloat._getDouble());
     }
 
     /***
@@ -143,7 +150,7 @@ public class EOfloat extends EOObject {
      * @return An object representing the  {@code exponent} free attribute)th power of this float
      */
     public EOfloat EOpow(EOObject exponent) {
-        return new EOfloat(Math.pow(this.value, exponent._getData().toFloat()));
+        return new EOfloat(Math.pow(this.value, exponent._getDouble()));
     }
 
 }
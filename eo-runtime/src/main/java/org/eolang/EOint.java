@@ -2,6 +2,7 @@ package org.eolang;
 
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOIntData;
 
 import java.util.Objects;
 
@@ -11,15 +12,51 @@ import java.util.Objects;
  */
 public class EOint extends EOObject {
 
+    /**
+     * The smallest integer whose object is preallocated
+     */
+    private static final long CACHE_LOW = -128;
+
+    /**
+     * The largest integer whose object is preallocated
+     * (set via the 'org.eolang.EOint.cache.high' system property, 1024 by default)
+     */
+    private static final long CACHE_HIGH = Math.max(Long.getLong("org.eolang.EOint.cache.high", 1024L), 127L);
+
+    private static final EOint[] CACHE = new EOint[Math.toIntExact(CACHE_HIGH - CACHE_LOW + 1)];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new EOint(CACHE_LOW + i);
+        }
+    }
+
     private final long value;
 
     public EOint(long value) {
         this.value = value;
     }
 
+    /***
+     * Makes an object representing the {@code value} integer
+     * @param value an integer to be represented
+     * @return A preallocated object for integers from -128 up to the cache bound, otherwise a new object
+     */
+    public static EOint of(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) (value - CACHE_LOW)];
+        }
+        return new EOint(value);
+    }
+
     @Override
     public EOData _getData() {
-        return new EOData(value);
+        return EOIntData.of(value);
+    }
+
+    @Override
+    public long _getLong() {
+        return value;
     }
 
     /***
@@ -28,7 +65,7 @@ public class EOint extends EOObject {
      * @return An object representing a sum of this integer and the {@code rightAddend} free attribute
      */
     public EOint EOadd(EOObject rightAddend) {
-        return new EOint(this.value + rightAddend._getData().toInt());
+        return EOint.of(this.value + rightAddend._getLong());
     }
 
     /***
@@ -37,32 +74,32 @@ public class EOint extends EOObject {
      * @return An object representing a difference of this integer and the {@code subtrahend} free attribute
      */
     public EOint EOsub(EOObject subtrahend) {
-        return new EOint(this.value - subtrahend._getData().toInt());
+        return EOint.of(this.value - subtrahend._getLong());
     }
 
     public EOint EOdiv(EOObject divisor) {
-        if (divisor._getData().toInt() == 0) {
+        long divisorValue = divisor._getLong();
+        if (divisorValue == 0) {
             throw new ArithmeticException("Division by zero not possible");
         }
-        return new EOint(Math.floorDiv(this.value, divisor._getData().toInt()));
+        return EOint.of(Math.floorDiv(this.value, divisorValue));
     }
 
     public EOint EOmul(EOObject rightFactor) {
-        return new EOint(this.value * rightFactor._getData().toInt());
+        return EOint.of(this.value * rightFactor._getLong());
     }
 
     /***
      * Checks if this int is equal to the {@code rightInt} free attribute
      * @param  rightInt a number to compare this int to
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
+     * (objects that cannot be dataized, e.g., arrays, are not equal to any int)
      */
     public EObool EOeq(EOObject rightInt) {
-        try{
-            return new EObool(this.value == rightInt._getData().toInt());
-        }catch (Exception e){
-            return new EObool(false);
+        if (rightInt._findTerminal() == null) {
+            return EObool.of(false);
         }
-
+        return EObool.of(this.value == rightInt._getLong());
     }
 
     /***
@@ -71,7 +108,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOneq(EOObject rightInt) {
-        return new EObool(this.value != rightInt._getData().toInt());
+        return EObool.of(this.value != rightInt._getLong());
     }
 
     /***
@@ -80,7 +117,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOless(EOObject rightInt) {
-        return new EObool(this.value < rightInt._getData().toInt());
+        return EObool.of(this.value < rightInt._getLong());
     }
 
     /***
@@ -89,7 +126,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOleq(EOObject rightInt) {
-        return new EObool(this.value <= rightInt._getData().toInt());
+        return EObool.of(this.value <= rightInt._getLong());
     }
 
     /***
@@ -98,7 +135,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOgreater(EOObject rightInt) {
-        return new EObool(this.value > rightInt._getData().toInt());
+        return EObool.of(this.value > rightInt._getLong());
     }
 
     /***
@@ -107,7 +144,7 @@ public class EOint extends EOObject {
      * @return A boolean representing the truth value of the comparison of this int with the {@code rightInt} free attribute
      */
     public EObool EOgeq(EOObject rightInt) {
-        return new EObool(this.value >= rightInt._getData().toInt());
+        return EObool.of(this.value >= rightInt._getLong());
     }
 
     /***
@@ -115,7 +152,7 @@ public class EOint extends EOObject {
      * @return A negative value of this int
      */
     public EOint EOneg() {
-        return new EOint(-value);
+        return EOint.of(-value);
     }
 
     /***
@@ -123,7 +160,7 @@ public class EOint extends EOObject {
      * @return An object representing the absolute value of this int
      */
     public EOint EOabs() {
-        return new EOint(Math.abs(this.value));
+        return EOint.of(Math.abs(this.value));
     }
 
     /***
@@ -131,7 +168,7 @@ public class EOint extends EOObject {
      * @return An object representing the sign number value of this int
      */
     public EOint EOsignum() {
-        return new EOint((long) Math.signum(this.value));
+        return EOint.of((long) Math.signum(this.value));
     }
 
     /***
@@ -140,7 +177,7 @@ public class EOint extends EOObject {
      * @return An object representing the  ({@code exponent} free attribute)th power of this int
      */
     public EOint EOpow(EOObject exponent) {
-        return new EOint((long) Math.pow(this.value, exponent._getData().toInt()));
+        return EOint.of((long) Math.pow(this.value, exponent._getLong()));
     }
 
     /***
@@ -149,7 +186,7 @@ public class EOint extends EOObject {
      * @return An object representing the remainder of the division by  ({@code divisor} free attribute)
      */
     public EOint EOmod(EOObject divisor) {
-        return new EOint(Math.floorMod(this.value, divisor._getData().toInt()));
+        return EOint.of(Math.floorMod(this.value, divisor._getLong()));
     }
 
     /**
@@ -180,7 +217,7 @@ public class EOint extends EOObject {
         if (this == o) return true;
         if (o == null || !(o instanceof EOObject)) return false;
         EOObject eoObject = (EOObject) o;
-        return this.EOeq(eoObject)._getData().toBoolean();
+        return this.EOeq(eoObject)._getData().asBoolean();
     }
 
     /**
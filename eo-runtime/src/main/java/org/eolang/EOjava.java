@@ -1,14 +1,12 @@
 package org.eolang;
 
+import org.eolang.core.EOArguments;
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EODataObject;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 
 /**
@@ -68,12 +66,11 @@ public class EOjava extends EOObject {
                     .filter(_method -> _method.getName().equals(
                             methodName._getData().toString())
                     ).findFirst().get();
-            Parameter[] methodParams = method.getParameters();
             method.setAccessible(true);
             result = new EODataObject(
                     method.invoke(
                             cls.getConstructor().newInstance(),
-                            _prepareArgs(methodParams, arguments)
+                            EOArguments.spread(method.getParameterTypes(), arguments)
                     ).toString());
         } catch (Exception e) {
             e.printStackTrace();
@@ -96,33 +93,15 @@ public class EOjava extends EOObject {
                     .filter(_method -> _method.getName().equals(
                             methodName._getData().toString())
                     ).findFirst().get();
-            Parameter[] methodParams = method.getParameters();
             method.setAccessible(true);
             result = new EODataObject(
                     method.invoke(
                             cls,
-                            _prepareArgs(methodParams, arguments)
+                            EOArguments.spread(method.getParameterTypes(), arguments)
                     ).toString());
         } catch (Exception e) {
             e.printStackTrace();
         }
         return  result;
     }
-
-    private Object[] _prepareArgs(Parameter[] methodParams, EOObject... arguments) {
-        List<Object> methodValues = new ArrayList<>();
-        for (int i = 0; i < methodParams.length; i++) {
-            if (methodParams[i].getType().getCanonicalName().endsWith("[]")) {
-                methodValues.add(
-                        Arrays
-                        .stream(arguments)
-                        .skip(i)
-                        .toArray(EOObject[]::new));
-                break;
-            } else {
-                methodValues.add(arguments[i]);
-            }
-        }
-        return methodValues.toArray();
-    }
 }
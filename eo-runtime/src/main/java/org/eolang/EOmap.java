@@ -0,0 +1,240 @@
+package org.eolang;
+
+import org.eolang.core.EOHashTrie;
+import org.eolang.core.EOObject;
+import org.eolang.core.data.EODataObject;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Represents a persistent hash map: an associative container binding keys to values.
+ * Keys are compared by the data they are dataized to (e.g., the int 1 and a string dataized to "1" are different keys,
+ * two objects dataized to the same string are the same key). Keys are dataized once, when they are put or searched for.
+ * <p>
+ * Maps are immutable: {@code put} and {@code remove} produce new maps that share all the unchanged parts
+ * with the original one (see {@link EOHashTrie}), so both operations, as well as lookups, take log32 of the size.
+ */
+public class EOmap extends EOObject {
+
+    /**
+     * The keys (the data behind them) bound to the values.
+     */
+    private final EOHashTrie _trie;
+
+    /**
+     * Instantiates an empty map.
+     */
+    public EOmap() {
+        this(EOHashTrie.EMPTY);
+    }
+
+    /**
+     * Instantiates a map of the {@code entries} built in one pass.
+     *
+     * @param entries an array of tuples: the first element of a tuple is a key, the second one is its value.
+     *                If a key occurs several times, the last value is bound to it.
+     */
+    public EOmap(EOObject entries) {
+        this(_build(entries));
+    }
+
+    private EOmap(EOHashTrie trie) {
+        _trie = trie;
+    }
+
+    /**
+     * Builds the map of the {@code entries} array of tuples (the map is built in place, without copying on each put).
+     */
+    private static EOHashTrie _build(EOObject entries) {
+        EOHashTrie.Builder builder = new EOHashTrie.Builder();
+        if (entries instanceof EOarray) {
+            for (EOObject entry : ((EOarray) entries)._elements()) {
+                _put(builder, entry);
+            }
+        } else {
+            int length = (int) entries._getAttribute("EOlength")._getLong();
+            for (int i = 0; i < length; i++) {
+                _put(builder, entries._getAttribute("EOget", EOint.of(i)));
+            }
+        }
+        return builder.build();
+    }
+
+    private static void _put(EOHashTrie.Builder builder, EOObject entry) {
+        builder.put(_key(entry._getAttribute("EOfst")), entry._getAttribute("EOsnd"));
+    }
+
+    /**
+     * Dataizes the {@code key} object.
+     */
+    private static Object _key(EOObject key) {
+        return key._getData().toObject();
+    }
+
+    /**
+     * Retrieves the value bound to the {@code key}.
+     *
+     * @param key the key to be looked up.
+     * @return the value bound to the {@code key}.
+     * @throws NoSuchElementException if this map has no such key.
+     */
+    public EOObject EOget(EOObject key) {
+        Object data = _key(key);
+        EOObject value = _trie.get(data);
+        if (value == null) {
+            throw new NoSuchElementException(
+                    String.format("Cannot retrieve the value of the key %s from the following map: %s. There is no such key.", data, this)
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the value bound to the {@code key}, or {@code otherwise} if this map has no such key.
+     *
+     * @param key       the key to be looked up.
+     * @param otherwise the object to return if this map has no such key.
+     * @return the value bound to the {@code key}, or {@code otherwise}.
+     */
+    public EOObject EOget(EOObject key, EOObject otherwise) {
+        EOObject value = _trie.get(_key(key));
+        return value != null ? value : otherwise;
+    }
+
+    /**
+     * Checks if this map has the {@code key}.
+     *
+     * @param key the key to be looked up.
+     * @return {@code true} if this map has the {@code key}, {@code false} otherwise.
+     */
+    public EObool EOhas(EOObject key) {
+        return EObool.of(_trie.containsKey(_key(key)));
+    }
+
+    /**
+     * Binds the {@code key} to the {@code value}.
+     * <p>
+     * This operation does not mutate the original map.
+     * Instead, it produces a map with the {@code key} bound to the {@code value} (replacing the previous value of the key).
+     *
+     * @return a copy of this map with the {@code key} bound to the {@code value}.
+     */
+    public EOmap EOput(EOObject key, EOObject value) {
+        EOHashTrie trie = _trie.put(_key(key), value);
+        return trie == _trie ? this : new EOmap(trie);
+    }
+
+    /**
+     * Removes the {@code key} (along with its value).
+     * <p>
+     * This operation does not mutate the original map.
+     * Instead, it produces a map without the {@code key} (this map is returned if it has no such key).
+     *
+     * @return a copy of this map without the {@code key}.
+     */
+    public EOmap EOremove(EOObject key) {
+        EOHashTrie trie = _trie.remove(_key(key));
+        return trie == _trie ? this : new EOmap(trie);
+    }
+
+    /**
+     * Retrieves the keys of this map (the keys are represented by the objects of their data: ints, floats, strings, etc.).
+     * The keys follow in the same order as the values retrieved by {@link #EOvalues} do.
+     *
+     * @return an {@code array} of the keys.
+     */
+    public EOarray EOkeys() {
+        EOObject[] keys = new EOObject[_trie.size()];
+        int[] i = {0};
+        _trie.forEach((key, value) -> keys[i[0]++] = _objectOf(key));
+        return new EOarray(keys);
+    }
+
+    /**
+     * Retrieves the values of this map.
+     * The values follow in the same order as the keys retrieved by {@link #EOkeys} do.
+     *
+     * @return an {@code array} of the values.
+     */
+    public EOarray EOvalues() {
+        EOObject[] values = new EOObject[_trie.size()];
+        int[] i = {0};
+        _trie.forEach((key, value) -> values[i[0]++] = value);
+        return new EOarray(values);
+    }
+
+    /**
+     * Retrieves the number of the keys of this map.
+     *
+     * @return an {@code int} representing the number of the keys.
+     */
+    public EOint EOsize() {
+        return EOint.of(_trie.size());
+    }
+
+    /**
+     * Makes the object of the standard type that is dataized to the {@code data} of a key.
+     */
+    private static EOObject _objectOf(Object data) {
+        if (data instanceof Long) {
+            return EOint.of((Long) data);
+        }
+        if (data instanceof Double) {
+            return new EOfloat((Double) data);
+        }
+        if (data instanceof String) {
+            return new EOstring((String) data);
+        }
+        if (data instanceof Boolean) {
+            return EObool.of((Boolean) data);
+        }
+        if (data instanceof Character) {
+            return new EOchar((Character) data);
+        }
+        return new EODataObject(data);
+    }
+
+    /**
+     * !!!For testing purposes only!!!
+     * <p>
+     * Determines if this object is equal to the {@code o} object.
+     * To do it, this method checks that the {@code o} object is a map of the same keys
+     * bound to equal values.
+     * <p>
+     * This method can be called only in the testing environment
+     * since all methods within the EO environment have the 'EO' prefix.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EOmap)) return false;
+        return _trie.equals(((EOmap) o)._trie);
+    }
+
+    @Override
+    public int hashCode() {
+        return _trie.hashCode();
+    }
+
+    /**
+     * !!!For testing purposes only!!!
+     * <p>
+     * Produces a string that represents this object.
+     * The resulting string has the following form:
+     * map{key1: value1, key2: value2, ...}.
+     * <p>
+     * This method can be called only in the testing environment
+     * since all methods within the EO environment have the 'EO' prefix.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("map{");
+        _trie.forEach((key, value) -> {
+            if (sb.length() > 4) {
+                sb.append(", ");
+            }
+            sb.append(key).append(": ").append(value);
+        });
+        return sb.append('}').toString();
+    }
+}
@@ -0,0 +1,209 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+
+import java.util.Arrays;
+
+/**
+ * Represents a lazy pipeline of transformations over an array (made by {@link EOarray#EOlazy}).
+ * Maps and filters applied to a pipeline are not performed immediately: they are recorded as stages
+ * of a new pipeline. The stages are fused and performed in a single pass over the source array
+ * (each element goes through all the stages before the next element is taken) only when a terminal operation
+ * needs the result (i.e., {@code reduce}, {@code length}, {@code get}, {@code toArray}).
+ * Thus, chains of maps and filters do not make intermediate arrays.
+ * <p>
+ * Pipelines are immutable: applying a stage produces a new pipeline, the original one is intact.
+ */
+public class EOpipeline extends EOObject {
+
+    /**
+     * The array the pipeline takes the elements from.
+     */
+    private final EOarray _source;
+
+    /**
+     * The stages each element goes through (in order).
+     */
+    private final Stage[] _stages;
+
+    /**
+     * Do the stages contain filters? (if they do not, the pipeline has as many elements as the source array)
+     */
+    private final boolean _filtering;
+
+    /**
+     * The array of the elements produced by the pipeline, or null if they have not been needed all at once yet.
+     * The array is computed once (even if several threads compute it simultaneously, they get equal arrays).
+     */
+    private volatile EOarray _materialized;
+
+    /**
+     * Instantiates a pipeline with no stages over the {@code source} array.
+     */
+    EOpipeline(EOarray source) {
+        this(source, new Stage[0]);
+    }
+
+    private EOpipeline(EOarray source, Stage[] stages) {
+        _source = source;
+        _stages = stages;
+        _filtering = Arrays.stream(stages).anyMatch(stage -> stage.filter);
+    }
+
+    /**
+     * Adds a stage transforming each element in accordance with {@code mapperObject} to the pipeline.
+     *
+     * @param mapperObject an EO object that must have a {@code map} attribute (see {@link EOarray#EOmap}).
+     * @return a pipeline with the stage added.
+     */
+    public EOpipeline EOmap(EOObject mapperObject) {
+        return _with(new Stage(mapperObject, false));
+    }
+
+    /**
+     * Adds a stage that keeps only the elements satisfying {@code predicateObject} to the pipeline.
+     *
+     * @param predicateObject an EO object that must have a {@code filter} attribute which must have a free attribute
+     *                        that receives the current element being checked.
+     *                        The {@code filter} attribute must bind an expression evaluating to a boolean to {@code @}.
+     * @return a pipeline with the stage added.
+     */
+    public EOpipeline EOfilter(EOObject predicateObject) {
+        return _with(new Stage(predicateObject, true));
+    }
+
+    /**
+     * Performs the operation of reduction of the elements produced by the pipeline
+     * (see {@link EOarray#EOreduce}) in the same pass that produces them.
+     *
+     * @param accumulator   an initial value of the accumulator.
+     * @param reducerObject an EO object that must have a {@code reduce} attribute (see {@link EOarray#EOreduce}).
+     * @return the result of reduction.
+     */
+    public EOObject EOreduce(EOObject accumulator, EOObject reducerObject) {
+        EOarray materialized = _materialized;
+        if (materialized != null) {
+            return materialized.EOreduce(accumulator, reducerObject);
+        }
+        EOObject out = accumulator;
+        for (EOObject element : _source._elements()) {
+            EOObject produced = _process(element);
+            if (produced != null) {
+                out = reducerObject._getAttribute("EOreduce", out, produced)._getDecoratedObject();
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Retrieves the number of the elements produced by the pipeline.
+     * Pipelines without filters do not perform their stages to find it out.
+     *
+     * @return an {@code int} representing the number of the elements.
+     */
+    public EOint EOlength() {
+        if (!_filtering) {
+            return _source.EOlength();
+        }
+        return EOtoArray().EOlength();
+    }
+
+    /**
+     * Retrieves the element at the position {@code i} of the elements produced by the pipeline.
+     * Pipelines without filters perform their stages over the element at the position {@code i} of the source array only.
+     *
+     * @param i an index of the element to be fetched.
+     * @return an element at the position {@code i}.
+     * @throws IndexOutOfBoundsException if {@code i} is out of bounds of the elements produced by the pipeline.
+     */
+    public EOObject EOget(EOObject i) {
+        if (!_filtering) {
+            return _process(_source.EOget(i));
+        }
+        return EOtoArray().EOget(i);
+    }
+
+    /**
+     * Performs the pipeline and collects the elements it produces into an array
+     * (the array is made once, the following calls return it again).
+     *
+     * @return an {@code array} object containing the elements produced by the pipeline.
+     */
+    public EOarray EOtoArray() {
+        EOarray materialized = _materialized;
+        if (materialized != null) {
+            return materialized;
+        }
+        EOObject[] produced = new EOObject[_source._size()];
+        int length = 0;
+        for (EOObject element : _source._elements()) {
+            EOObject result = _process(element);
+            if (result != null) {
+                produced[length++] = result;
+            }
+        }
+        materialized = EOarray._of(produced, length);
+        _materialized = materialized;
+        return materialized;
+    }
+
+    /**
+     * Makes a pipeline with the {@code stage} added to the stages of this pipeline.
+     */
+    private EOpipeline _with(Stage stage) {
+        Stage[] stages = Arrays.copyOf(_stages, _stages.length + 1);
+        stages[_stages.length] = stage;
+        return new EOpipeline(_source, stages);
+    }
+
+    /**
+     * Passes the {@code element} through all the stages of the pipeline.
+     *
+     * @return the element produced by the last stage, or null if some filter drops the element.
+     */
+    private EOObject _process(EOObject element) {
+        EOObject current = element;
+        for (Stage stage : _stages) {
+            if (stage.filter) {
+                if (!stage.object._getAttribute("EOfilter", current)._getDecoratedObject()._getData().asBoolean()) {
+                    return null;
+                }
+            } else {
+                current = stage.object._getAttribute("EOmap", current)._getDecoratedObject();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * !!!For testing purposes only!!!
+     * <p>
+     * Produces a string that represents the elements produced by this pipeline
+     * (the same way {@link EOarray#toString} does).
+     */
+    @Override
+    public String toString() {
+        return EOtoArray().toString();
+    }
+
+    /**
+     * A stage of a pipeline: a map or a filter.
+     */
+    private static final class Stage {
+
+        /**
+         * The mapper object (or the predicate object) of the stage.
+         */
+        private final EOObject object;
+
+        /**
+         * Is the stage a filter?
+         */
+        private final boolean filter;
+
+        private Stage(EOObject object, boolean filter) {
+            this.object = object;
+            this.filter = filter;
+        }
+    }
+}
@@ -12,9 +12,9 @@ public class EOrandom extends EOObject {
      * @return A random int object from {@code minValue} to {@code maxValue} exclusive
      */
     public EOint EOint(EOObject minValue, EOObject maxValue) {
-        Long min = minValue._getData().toInt();
-        Long max = maxValue._getData().toInt();
+        long min = minValue._getLong();
+        long max = maxValue._getLong();
         if(max <= min) throw new IllegalArgumentException("maxValue must be greater than than minValue");
-        return new EOint(ThreadLocalRandom.current().nextLong(min, max));
+        return EOint.of(ThreadLocalRandom.current().nextLong(min, max));
     }
 }
@@ -2,6 +2,7 @@ package org.eolang;
 
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOStringData;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
@@ -25,7 +26,7 @@ public class EOstring extends EOObject {
 
     @Override
     public EOData _getData() {
-        return new EOData(stringValue);
+        return new EOStringData(stringValue);
     }
 
      /***
@@ -53,7 +54,7 @@ public class EOstring extends EOObject {
      */
     public EOstring EOsubstring(EOObject begin, EOObject end) {
         try{
-            return new EOstring(stringValue.substring(begin._getData().toInt().intValue(), end._getData().toInt().intValue()));
+            return new EOstring(stringValue.substring((int) begin._getLong(), (int) end._getLong()));
         }catch (IndexOutOfBoundsException  e){
             throw new IndexOutOfBoundsException();
         }catch (Exception e){
@@ -94,7 +95,7 @@ public class EOstring extends EOObject {
      * @return An object representing the integer value of this string
      */
     public EOint EOtoInt() {
-        return new EOint(Long.parseLong(stringValue));
+        return EOint.of(Long.parseLong(stringValue));
     }
 
     /***
@@ -111,7 +112,7 @@ public class EOstring extends EOObject {
      * @return An object representing the truth value of the comparison of this string with the {@code rightString} free attribute
      */
     public EObool EOeq(EOObject rightString) {
-        return new EObool(stringValue.equals(rightString._getData().toString()));
+        return EObool.of(stringValue.equals(rightString._getData().toString()));
     }
 
     /**
@@ -133,7 +134,7 @@ public class EOstring extends EOObject {
         if (this == o) return true;
         if (o == null || !(o instanceof EOObject)) return false;
         EOObject eoObject = (EOObject) o;
-        return this.EOeq(eoObject)._getData().toBoolean();
+        return this.EOeq(eoObject)._getData().asBoolean();
     }
 
     /**
@@ -0,0 +1,100 @@
+package org.eolang.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Adapts arguments of attribute applications to the parameters of the methods that declare the attributes.
+ * The arguments of an application are passed positionally, and the ones that correspond to a variable-length
+ * free attribute (i.e., an array parameter) are passed as a single array.
+ * The adaptation creates no intermediate collections: fixed-arity methods receive the arguments as they are,
+ * while variable-length tails are copied straight into right-sized arrays.
+ */
+public final class EOArguments {
+
+    private static final MethodHandle ELEMENT = MethodHandles.arrayElementGetter(EOObject[].class);
+    private static final MethodHandle TAIL;
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findStatic(
+                    EOArguments.class, "tail", MethodType.methodType(EOObject[].class, EOObject[].class, int.class)
+            );
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private EOArguments() {
+    }
+
+    /**
+     * Prepares the {@code arguments} for a reflective call of a method with the {@code parameterTypes} parameters.
+     * All the arguments starting with the first array parameter are passed as a single array.
+     *
+     * @param parameterTypes The types of the parameters of the method.
+     * @param arguments      The arguments of the application.
+     * @return The values of the parameters of the method (the {@code arguments} themselves if there are no arrays).
+     */
+    public static Object[] spread(Class<?>[] parameterTypes, EOObject[] arguments) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (parameterTypes[i].isArray()) {
+                Object[] prepared = new Object[i + 1];
+                System.arraycopy(arguments, 0, prepared, 0, i);
+                prepared[i] = tail(arguments, i);
+                return prepared;
+            }
+        }
+        if (arguments.length == parameterTypes.length) {
+            return arguments;
+        }
+        return Arrays.copyOf(arguments, parameterTypes.length, Object[].class);
+    }
+
+    /**
+     * Adapts the handle of a method declaring an attribute to the applications of the attribute.
+     * The adapter is specialized to the arity of the method: it binds the arguments positionally
+     * and (for variable-length attributes) copies the tail of the arguments into an array.
+     *
+     * @param method  The handle of the method (the first parameter is the object the attribute belongs to).
+     * @param varargs Is the last parameter of the method variable-length?
+     * @return The handle that takes the object the attribute belongs to and the arguments of the application.
+     */
+    static MethodHandle adapter(MethodHandle method, boolean varargs) {
+        int count = method.type().parameterCount() - 1;
+        int fixed = varargs ? count - 1 : count;
+        Class<?>[] parameters = new Class<?>[count + 1];
+        MethodHandle[] filters = new MethodHandle[count];
+        Arrays.fill(parameters, EOObject.class);
+        for (int i = 0; i < fixed; i++) {
+            filters[i] = MethodHandles.insertArguments(ELEMENT, 1, i);
+        }
+        if (varargs) {
+            parameters[count] = EOObject[].class;
+            filters[fixed] = MethodHandles.insertArguments(TAIL, 1, fixed);
+        }
+        MethodHandle adapter = MethodHandles.filterArguments(
+                method.asFixedArity().asType(MethodType.methodType(EOObject.class, parameters)), 1, filters
+        );
+        if (count == 0) {
+            return MethodHandles.dropArguments(adapter, 1, EOObject[].class);
+        }
+        // every argument is extracted from the same array
+        int[] reorder = new int[count + 1];
+        Arrays.fill(reorder, 1, reorder.length, 1);
+        return MethodHandles.permuteArguments(
+                adapter, MethodType.methodType(EOObject.class, EOObject.class, EOObject[].class), reorder
+        );
+    }
+
+    /**
+     * Copies the {@code arguments} starting from the {@code from} one into a new array.
+     */
+    private static EOObject[] tail(EOObject[] arguments, int from) {
+        EOObject[] tail = new EOObject[arguments.length - from];
+        System.arraycopy(arguments, from, tail, 0, tail.length);
+        return tail;
+    }
+}
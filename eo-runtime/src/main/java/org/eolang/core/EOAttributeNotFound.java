@@ -0,0 +1,54 @@
+package org.eolang.core;
+
+import java.util.List;
+
+/**
+ * Thrown when an attribute is accessed, but neither the object nor the objects of its decoration chain have it.
+ * The exception carries the path of the EO objects where the attribute was looked up instead of the stack trace
+ * (the stack trace is not captured, since capturing it on deep EO stacks is expensive,
+ * while the Java frames of the runtime say little about the EO program).
+ */
+public class EOAttributeNotFound extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The target (Java) name of the attribute.
+     */
+    private final String attribute;
+
+    /**
+     * The types of the objects where the attribute was looked up (the accessed object first, its decoratees next).
+     */
+    private final List<String> path;
+
+    /**
+     * @param attribute The target (Java) name of the attribute.
+     * @param path      The types of the objects where the attribute was looked up.
+     */
+    public EOAttributeNotFound(String attribute, List<String> path) {
+        super(
+                String.format(
+                        "Can't access the %s attribute of the %s object (looked up in %s)",
+                        attribute, path.get(path.size() - 1), String.join(" -> ", path)
+                ),
+                null, false, false
+        );
+        this.attribute = attribute;
+        this.path = List.copyOf(path);
+    }
+
+    /**
+     * Retrieves the target (Java) name of the attribute that was not found.
+     */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Retrieves the types of the objects where the attribute was looked up (the accessed object first).
+     */
+    public List<String> getPath() {
+        return path;
+    }
+}
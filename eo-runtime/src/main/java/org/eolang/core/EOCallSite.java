@@ -0,0 +1,173 @@
+package org.eolang.core;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+
+/**
+ * Declares a call site of a dynamic attribute access (i.e., a dot-notation application whose receiver
+ * is not known at compile time).
+ * The call site keeps a polymorphic inline cache that maps classes of receivers to method handles of the accessed
+ * attribute, so that the JVM can inline the attribute access as long as the call site sees a few receiver classes only.
+ * The call site becomes megamorphic (i.e., it falls back to {@link EOObject#_getAttribute})
+ * after it sees more than {@link #MAX_DEPTH} distinct classes of receivers.
+ * <p>
+ * Call sites are linked by {@link #bootstrap}, which is an {@code invokedynamic} bootstrap method.
+ * Since the transpiler produces Java source code, the generated classes keep their call sites
+ * in static final fields (see {@link #attribute}) and access attributes through {@link #invoke}.
+ * Each call site always passes the same number of arguments to the attribute.
+ */
+public final class EOCallSite extends MutableCallSite {
+
+    /**
+     * The maximum number of receiver classes cached by a call site.
+     */
+    static final int MAX_DEPTH = 8;
+
+    /**
+     * The type of the call site: the receiver and the arguments of the attribute produce the attribute object.
+     */
+    private static final MethodType TYPE = MethodType.methodType(EOObject.class, EOObject.class, EOObject[].class);
+
+    private static final MethodHandle CHECK_CLASS;
+    private static final MethodHandle FALLBACK;
+    private static final MethodHandle GET_ATTRIBUTE;
+    private static final MethodHandle OWNER;
+    private static final MethodHandle UNWRAP;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CHECK_CLASS = lookup.findStatic(
+                    EOCallSite.class, "checkClass", MethodType.methodType(boolean.class, Class.class, EOObject.class)
+            );
+            FALLBACK = lookup.findVirtual(
+                    EOCallSite.class, "fallback", MethodType.methodType(EOObject.class, EOObject.class, EOObject[].class)
+            );
+            GET_ATTRIBUTE = lookup.findVirtual(
+                    EOObject.class, "_getAttribute", MethodType.methodType(EOObject.class, String.class, EOObject[].class)
+            ).asFixedArity();
+            OWNER = lookup.findStatic(
+                    EOCallSite.class, "owner", MethodType.methodType(EOObject.class, String.class, int.class, EOObject.class)
+            );
+            UNWRAP = lookup.findVirtual(EOThunk.class, "_getComputed", MethodType.methodType(EOObject.class))
+                    .asType(MethodType.methodType(EOObject.class, EOObject.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * The target (Java) name of the accessed attribute.
+     */
+    private final String name;
+
+    /**
+     * The number of receiver classes cached by the call site so far.
+     */
+    private int depth;
+
+    private EOCallSite(String name) {
+        super(TYPE);
+        this.name = name;
+        setTarget(FALLBACK.bindTo(this));
+    }
+
+    /**
+     * The {@code invokedynamic} bootstrap method that links a call site accessing the {@code name} attribute.
+     *
+     * @param caller The lookup of the class containing the call site (unused, attributes are public).
+     * @param name   The target (Java) name of the accessed attribute.
+     * @param type   The type of the call site (the receiver followed by the arguments of the attribute).
+     * @return The linked call site.
+     */
+    public static CallSite bootstrap(MethodHandles.Lookup caller, String name, MethodType type) {
+        EOCallSite site = new EOCallSite(name);
+        if (type.equals(TYPE)) {
+            return site;
+        }
+        // the arguments are passed one by one, so they are collected into an array first
+        MethodHandle target = site.dynamicInvoker().asCollector(EOObject[].class, type.parameterCount() - 1);
+        return new ConstantCallSite(target.asType(type));
+    }
+
+    /**
+     * Creates a call site accessing the {@code name} attribute.
+     *
+     * @param name The target (Java) name of the accessed attribute.
+     * @return The invoker of the call site (to be kept in a static final field of the calling class).
+     */
+    public static MethodHandle attribute(String name) {
+        return new EOCallSite(name).dynamicInvoker();
+    }
+
+    /**
+     * Accesses an attribute through a call site created by {@link #attribute}.
+     *
+     * @param site      The invoker of the call site.
+     * @param receiver  The object whose attribute is accessed.
+     * @param arguments The arguments of the attribute.
+     * @return The attribute object.
+     */
+    public static EOObject invoke(MethodHandle site, EOObject receiver, EOObject... arguments) {
+        try {
+            return (EOObject) site.invokeExact(receiver, arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Links the call site for the class of the {@code receiver} and accesses the attribute.
+     * Called when the call site meets a class of receivers that is not cached yet.
+     */
+    private EOObject fallback(EOObject receiver, EOObject[] arguments) throws Throwable {
+        MethodHandle cached = link(receiver.getClass(), arguments.length);
+        synchronized (this) {
+            if (depth < MAX_DEPTH) {
+                depth++;
+                setTarget(MethodHandles.guardWithTest(CHECK_CLASS.bindTo(receiver.getClass()), cached, getTarget()));
+            } else {
+                setTarget(MethodHandles.insertArguments(GET_ATTRIBUTE, 1, name));
+            }
+        }
+        return (EOObject) cached.invokeExact(receiver, arguments);
+    }
+
+    /**
+     * Builds the method handle that accesses the attribute of receivers of the {@code type} class.
+     */
+    private MethodHandle link(Class<?> type, int arity) {
+        if (type == EOThunk.class) {
+            // the attribute of the wrapped object is accessed through the same call site
+            return MethodHandles.filterArguments(dynamicInvoker(), 0, UNWRAP);
+        }
+        EODispatchTable table = EODispatchTable.of(type);
+        if (table.resolvesDynamically()) {
+            return MethodHandles.insertArguments(GET_ATTRIBUTE, 1, name);
+        }
+        EODispatchTable.Attribute attribute = table.find(name, arity);
+        if (attribute != null) {
+            return attribute.adapter();
+        }
+        // the attribute is searched in the decoration hierarchy, and accessed through the same call site
+        return MethodHandles.filterArguments(dynamicInvoker(), 0, MethodHandles.insertArguments(OWNER, 0, name, arity));
+    }
+
+    private static boolean checkClass(Class<?> type, EOObject receiver) {
+        return receiver.getClass() == type;
+    }
+
+    /**
+     * Retrieves the object in the decoration chain of the {@code receiver} that has the {@code name} attribute
+     * (see {@link EOObject#_getOwner}).
+     */
+    private static EOObject owner(String name, int arity, EOObject receiver) {
+        return receiver._getOwner(name, arity);
+    }
+}
@@ -0,0 +1,47 @@
+package org.eolang.core;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Declares the counters of the memoized dataization of pure objects (see {@link EOObject#_isPure}).
+ * A hit is a dataization of a pure object that returns the data memoized by an earlier dataization of the object,
+ * a miss is the first dataization of a pure object (the one that memoizes the data).
+ */
+public final class EODataCache {
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private EODataCache() {
+    }
+
+    /**
+     * Retrieves the number of dataizations of pure objects that returned memoized data.
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Retrieves the number of dataizations of pure objects that memoized data.
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Resets both counters to zero.
+     */
+    public static void reset() {
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    static void hit() {
+        HITS.increment();
+    }
+
+    static void miss() {
+        MISSES.increment();
+    }
+}
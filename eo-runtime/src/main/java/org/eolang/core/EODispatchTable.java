@@ -0,0 +1,188 @@
+package org.eolang.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Declares the table of attribute objects of a single class of EO objects.
+ * The table is built lazily, once per class (both standard and user-defined, i.e., generated by transpiler),
+ * the first time any attribute of an object of the class is accessed through {@link EOObject#_getAttribute}.
+ * Each attribute is stored as a method handle bound to the method that declares it,
+ * so that repeated attribute accesses neither scan the methods of the class nor go through the reflective
+ * {@link Method#invoke} call.
+ */
+final class EODispatchTable {
+
+    /**
+     * Tables of all the classes whose attributes have been accessed so far.
+     */
+    private static final ClassValue<EODispatchTable> TABLES = new ClassValue<>() {
+        @Override
+        protected EODispatchTable computeValue(Class<?> type) {
+            return new EODispatchTable(type);
+        }
+    };
+
+    /**
+     * Attributes declared by the class, keyed by their target (Java) names.
+     * Several attributes may share the same name (i.e., be overloaded), they are then distinguished by their arity.
+     */
+    private final Map<String, Attribute[]> attributes;
+
+    /**
+     * Does the class resolve attributes on its own (i.e., override {@link EOObject#_getAttribute})?
+     */
+    private final boolean dynamic;
+
+    /**
+     * Builds the table of attribute objects of the {@code type} class.
+     *
+     * @param type The class whose attribute objects are collected.
+     */
+    private EODispatchTable(Class<?> type) {
+        this.attributes = new HashMap<>();
+        this.dynamic = overridesGetAttribute(type);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Method method : type.getMethods()) {
+            if (!isAttribute(method)) {
+                continue;
+            }
+            Attribute attribute;
+            try {
+                method.setAccessible(true);
+                attribute = new Attribute(method, lookup.unreflect(method));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // the method cannot be accessed from the runtime, so it is not an attribute
+                continue;
+            }
+            attributes.merge(
+                    method.getName(),
+                    new Attribute[]{attribute},
+                    (present, added) -> {
+                        Attribute[] merged = new Attribute[present.length + 1];
+                        System.arraycopy(present, 0, merged, 0, present.length);
+                        merged[present.length] = added[0];
+                        return merged;
+                    }
+            );
+        }
+    }
+
+    /**
+     * Retrieves the table of attribute objects of the {@code type} class.
+     *
+     * @param type The class of EO objects.
+     * @return The table of attribute objects of the class (built on the first access).
+     */
+    static EODispatchTable of(Class<?> type) {
+        return TABLES.get(type);
+    }
+
+    /**
+     * Looks up the attribute {@code name} that can be applied to {@code arity} arguments.
+     * Attributes with the exact number of free attributes take precedence over variable-length ones.
+     *
+     * @param name  The target (Java) name of the attribute.
+     * @param arity The number of arguments the attribute is applied to.
+     * @return The attribute, or null if the class does not declare such an attribute.
+     */
+    Attribute find(String name, int arity) {
+        Attribute[] candidates = attributes.get(name);
+        if (candidates == null) {
+            return null;
+        }
+        Attribute found = null;
+        for (Attribute candidate : candidates) {
+            if (candidate.arity == arity && !candidate.varargs) {
+                return candidate;
+            }
+            if (found == null && candidate.varargs && candidate.arity - 1 <= arity) {
+                found = candidate;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Determines if the class resolves attributes on its own (i.e., overrides {@link EOObject#_getAttribute}),
+     * so they may be missing in the table.
+     */
+    boolean resolvesDynamically() {
+        return dynamic;
+    }
+
+    private static boolean overridesGetAttribute(Class<?> type) {
+        try {
+            return type.getMethod("_getAttribute", String.class, EOObject[].class).getDeclaringClass() != EOObject.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Determines if the {@code method} declares an attribute object
+     * (i.e., it is a non-static method that has the 'EO' prefix and produces an EO object).
+     */
+    private static boolean isAttribute(Method method) {
+        return method.getName().startsWith("EO")
+                && !Modifier.isStatic(method.getModifiers())
+                && EOObject.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Represents a single attribute object declared by a class.
+     */
+    static final class Attribute {
+
+        /**
+         * The handle of the method declaring the attribute adapted to the applications of the attribute
+         * (see {@link EOArguments#adapter}).
+         * The handle takes the object the attribute belongs to and the arguments of the application.
+         */
+        private final MethodHandle adapter;
+
+        /**
+         * The number of free attributes of the attribute.
+         */
+        private final int arity;
+
+        /**
+         * Is the last free attribute of the attribute variable-length?
+         */
+        private final boolean varargs;
+
+        private Attribute(Method method, MethodHandle handle) {
+            this.arity = method.getParameterCount();
+            this.varargs = method.isVarArgs();
+            this.adapter = EOArguments.adapter(handle, varargs);
+        }
+
+        /**
+         * Returns the handle that takes the object the attribute belongs to and the arguments of the application.
+         */
+        MethodHandle adapter() {
+            return adapter;
+        }
+
+        /**
+         * Instantiates the attribute of the {@code self} object.
+         *
+         * @param self      The object the attribute belongs to.
+         * @param arguments The arguments of the application of the attribute.
+         * @return The attribute object instantiated with the provided arguments.
+         */
+        EOObject invoke(EOObject self, EOObject[] arguments) {
+            try {
+                return (EOObject) adapter.invokeExact(self, arguments);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
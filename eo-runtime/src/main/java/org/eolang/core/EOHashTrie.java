@@ -0,0 +1,427 @@
+package org.eolang.core;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Declares the persistent (immutable) hash map of objects that backs EO maps.
+ * The map is a hash array mapped trie: each node consumes 5 bits of the hash of a key
+ * and keeps its children (entries or nodes of the next level) in a compact array indexed by a 32-bit bitmap,
+ * so that looking up, putting or removing a key takes a walk from the root down to the entry (i.e., log32 of the size).
+ * Maps produced by operations share all the unchanged nodes with the original maps.
+ * Keys whose hashes are equal are kept together in collision nodes at the bottom of the trie.
+ * <p>
+ * Maps are built in one pass (without copying the nodes on each put) through {@link Builder}.
+ */
+public final class EOHashTrie {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    /**
+     * The empty map.
+     */
+    public static final EOHashTrie EMPTY = new EOHashTrie(0, new Node(null, 0, new Object[0]));
+
+    private final int size;
+
+    private final Node root;
+
+    private EOHashTrie(int size, Node root) {
+        this.size = size;
+        this.root = root;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the value of the {@code key}, or null if the map has no such key.
+     */
+    public EOObject get(Object key) {
+        Entry entry = find(key);
+        return entry != null ? entry.value : null;
+    }
+
+    public boolean containsKey(Object key) {
+        return find(key) != null;
+    }
+
+    /**
+     * Produces a map with the {@code key} bound to the {@code value}
+     * (the map is returned as is if the {@code key} is already bound to the {@code value}).
+     */
+    public EOHashTrie put(Object key, EOObject value) {
+        Delta delta = new Delta();
+        Node newRoot = put(null, root, 0, new Entry(key, value), delta);
+        return newRoot == root ? this : new EOHashTrie(size + delta.size, newRoot);
+    }
+
+    /**
+     * Produces a map without the {@code key} (the map is returned as is if it has no such key).
+     */
+    public EOHashTrie remove(Object key) {
+        Object newRoot = remove(root, 0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        return new EOHashTrie(size - 1, (Node) newRoot);
+    }
+
+    /**
+     * Passes each key along with its value to the {@code action}.
+     * The keys are visited in the order of their hashes (the same for all maps of equal keys).
+     */
+    public void forEach(BiConsumer<Object, EOObject> action) {
+        forEach(root, action);
+    }
+
+    /**
+     * Determines if the {@code o} object is a map of equal keys bound to equal values.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EOHashTrie)) return false;
+        EOHashTrie that = (EOHashTrie) o;
+        if (size != that.size) return false;
+        boolean[] equal = {true};
+        forEach((key, value) -> {
+            if (equal[0]) {
+                equal[0] = value.equals(that.get(key));
+            }
+        });
+        return equal[0];
+    }
+
+    /**
+     * Computes the hash code of the map the way {@link java.util.Map#hashCode} does.
+     */
+    @Override
+    public int hashCode() {
+        int[] hash = {0};
+        forEach((key, value) -> hash[0] += key.hashCode() ^ value.hashCode());
+        return hash[0];
+    }
+
+    private static int hash(Object key) {
+        return key.hashCode();
+    }
+
+    private Entry find(Object key) {
+        int hash = hash(key);
+        Object current = root;
+        for (int shift = 0; current instanceof Node; shift += BITS) {
+            Node node = (Node) current;
+            int bit = bit(hash, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            current = node.slots[node.index(bit)];
+        }
+        if (current instanceof Entry) {
+            Entry entry = (Entry) current;
+            return entry.hash == hash && entry.key.equals(key) ? entry : null;
+        }
+        for (Entry entry : ((Collision) current).entries) {
+            if (entry.key.equals(key)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Puts the {@code entry} into the {@code node} at the level {@code shift}.
+     * Nodes owned by the {@code edit} token are changed in place, the others are copied.
+     *
+     * @return the node with the entry put (the {@code node} itself if nothing is changed).
+     */
+    private static Node put(Object edit, Node node, int shift, Entry entry, Delta delta) {
+        int bit = bit(entry.hash, shift);
+        int index = node.index(bit);
+        if ((node.bitmap & bit) == 0) {
+            delta.size = 1;
+            return node.insert(edit, bit, index, entry);
+        }
+        Object slot = node.slots[index];
+        Object newSlot;
+        if (slot instanceof Node) {
+            newSlot = put(edit, (Node) slot, shift + BITS, entry, delta);
+        } else if (slot instanceof Entry) {
+            Entry existing = (Entry) slot;
+            if (existing.hash == entry.hash && existing.key.equals(entry.key)) {
+                newSlot = existing.value == entry.value ? existing : entry;
+            } else {
+                delta.size = 1;
+                newSlot = merge(edit, shift + BITS, existing, existing.hash, entry);
+            }
+        } else {
+            Collision collision = (Collision) slot;
+            if (collision.hash == entry.hash) {
+                newSlot = collision.put(entry, delta);
+            } else {
+                delta.size = 1;
+                newSlot = merge(edit, shift + BITS, collision, collision.hash, entry);
+            }
+        }
+        return newSlot == slot ? node : node.replace(edit, index, newSlot);
+    }
+
+    /**
+     * Makes a node at the level {@code shift} that keeps the {@code existing} slot (an entry or a collision node
+     * of the keys with the hash {@code hash}) and the {@code entry} with a different key.
+     */
+    private static Object merge(Object edit, int shift, Object existing, int hash, Entry entry) {
+        if (hash == entry.hash) {
+            return new Collision(hash, new Entry[]{(Entry) existing, entry});
+        }
+        int existingBit = bit(hash, shift);
+        int bit = bit(entry.hash, shift);
+        if (existingBit == bit) {
+            return new Node(edit, bit, new Object[]{merge(edit, shift + BITS, existing, hash, entry)});
+        }
+        Object[] slots = Integer.compareUnsigned(existingBit, bit) < 0
+                ? new Object[]{existing, entry}
+                : new Object[]{entry, existing};
+        return new Node(edit, existingBit | bit, slots);
+    }
+
+    /**
+     * Removes the {@code key} from the {@code node} at the level {@code shift}.
+     *
+     * @return the {@code node} itself if it has no such key, null if nothing remains of the node,
+     * the only entry (or collision node) that remains of a node below the root, or the node without the key.
+     */
+    private static Object remove(Node node, int shift, int hash, Object key) {
+        int bit = bit(hash, shift);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = node.index(bit);
+        Object slot = node.slots[index];
+        Object newSlot;
+        if (slot instanceof Node) {
+            newSlot = remove((Node) slot, shift + BITS, hash, key);
+        } else if (slot instanceof Entry) {
+            Entry entry = (Entry) slot;
+            newSlot = entry.hash == hash && entry.key.equals(key) ? null : entry;
+        } else {
+            newSlot = ((Collision) slot).remove(hash, key);
+        }
+        if (newSlot == slot) {
+            return node;
+        }
+        if (newSlot != null) {
+            return node.replace(null, index, newSlot);
+        }
+        if (node.bitmap == bit) {
+            return shift == 0 ? EMPTY.root : null;
+        }
+        Node removed = node.delete(bit, index);
+        if (shift > 0 && removed.slots.length == 1 && !(removed.slots[0] instanceof Node)) {
+            return removed.slots[0];
+        }
+        return removed;
+    }
+
+    private static void forEach(Object slot, BiConsumer<Object, EOObject> action) {
+        if (slot instanceof Node) {
+            for (Object child : ((Node) slot).slots) {
+                forEach(child, action);
+            }
+        } else if (slot instanceof Entry) {
+            Entry entry = (Entry) slot;
+            action.accept(entry.key, entry.value);
+        } else {
+            for (Entry entry : ((Collision) slot).entries) {
+                action.accept(entry.key, entry.value);
+            }
+        }
+    }
+
+    /**
+     * A key bound to a value.
+     */
+    private static final class Entry {
+        private final Object key;
+        private final int hash;
+        private final EOObject value;
+
+        private Entry(Object key, EOObject value) {
+            this.key = key;
+            this.hash = hash(key);
+            this.value = value;
+        }
+    }
+
+    /**
+     * A node of the trie: the slots keep the children whose bits are set in the bitmap (in the order of the bits).
+     * A child is an entry, a node of the next level or a collision node.
+     */
+    private static final class Node {
+
+        /**
+         * The token of the builder that owns the node and may change it in place (null for nodes of built maps).
+         */
+        private final Object edit;
+        private int bitmap;
+        private Object[] slots;
+
+        private Node(Object edit, int bitmap, Object[] slots) {
+            this.edit = edit;
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        /**
+         * The position of the slot of the child with the {@code bit} set.
+         */
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private boolean editable(Object edit) {
+            return edit != null && this.edit == edit;
+        }
+
+        private Node insert(Object edit, int bit, int index, Object child) {
+            Object[] newSlots = new Object[slots.length + 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            newSlots[index] = child;
+            System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+            if (editable(edit)) {
+                bitmap |= bit;
+                slots = newSlots;
+                return this;
+            }
+            return new Node(edit, bitmap | bit, newSlots);
+        }
+
+        private Node replace(Object edit, int index, Object child) {
+            if (editable(edit)) {
+                slots[index] = child;
+                return this;
+            }
+            Object[] newSlots = slots.clone();
+            newSlots[index] = child;
+            return new Node(edit, bitmap, newSlots);
+        }
+
+        private Node delete(int bit, int index) {
+            Object[] newSlots = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(slots, index + 1, newSlots, index, newSlots.length - index);
+            return new Node(null, bitmap & ~bit, newSlots);
+        }
+    }
+
+    /**
+     * The entries of the keys with the same hash.
+     */
+    private static final class Collision {
+        private final int hash;
+        private final Entry[] entries;
+
+        private Collision(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        private Collision put(Entry entry, Delta delta) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(entry.key)) {
+                    if (entries[i].value == entry.value) {
+                        return this;
+                    }
+                    Entry[] newEntries = entries.clone();
+                    newEntries[i] = entry;
+                    return new Collision(hash, newEntries);
+                }
+            }
+            delta.size = 1;
+            Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            return new Collision(hash, newEntries);
+        }
+
+        /**
+         * @return this collision node if it has no such key, the only remaining entry,
+         * or the collision node without the key.
+         */
+        private Object remove(int hash, Object key) {
+            if (hash != this.hash) {
+                return this;
+            }
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    if (entries.length == 2) {
+                        return entries[1 - i];
+                    }
+                    Entry[] newEntries = new Entry[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, newEntries.length - i);
+                    return new Collision(hash, newEntries);
+                }
+            }
+            return this;
+        }
+    }
+
+    /**
+     * The change of the size of a map made by a put.
+     */
+    private static final class Delta {
+        private int size;
+    }
+
+    /**
+     * Puts keys into a map being built in place (the nodes made by the builder are changed rather than copied)
+     * and builds the map at once. A builder is not thread-safe and must not be used after the map is built.
+     */
+    public static final class Builder {
+
+        /**
+         * The token that marks the nodes made by this builder (null once the map is built).
+         */
+        private Object edit = new Object();
+        private Node root = EMPTY.root;
+        private int size;
+
+        /**
+         * Binds the {@code key} to the {@code value} in the map being built (replacing the previous value of the key).
+         *
+         * @return This builder.
+         * @throws IllegalStateException Thrown when the map has already been built.
+         */
+        public Builder put(Object key, EOObject value) {
+            if (edit == null) {
+                throw new IllegalStateException("The map has already been built");
+            }
+            Delta delta = new Delta();
+            root = EOHashTrie.put(edit, root, 0, new Entry(key, value), delta);
+            size += delta.size;
+            return this;
+        }
+
+        /**
+         * Builds the map of the put keys.
+         */
+        public EOHashTrie build() {
+            edit = null;
+            return size == 0 ? EMPTY : new EOHashTrie(size, root);
+        }
+    }
+}
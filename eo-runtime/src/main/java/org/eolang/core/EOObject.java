@@ -2,12 +2,8 @@ package org.eolang.core;
 
 import org.eolang.core.data.EOData;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 
 /**
@@ -17,6 +13,42 @@ import java.util.stream.Collectors;
  */
 public abstract class EOObject implements Cloneable {
 
+    /**
+     * Classes of objects that declare how they are dataized (i.e., override {@link #_getData}).
+     */
+    private static final ClassValue<Boolean> DATAIZING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("_getData").getDeclaringClass() != EOObject.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * The object this object is dataized through (see {@link #_getTerminal}), or null if it is not resolved yet.
+     */
+    private EOObject _terminal;
+
+    /**
+     * The objects of the decoration chain of this object where its attributes were found (see {@link #_getOwner}).
+     */
+    private Owner _owners;
+
+    /**
+     * The miss sentinel: the owner recorded for the attributes that neither of the decoratees of an object has
+     * (see {@link #_findOwner}).
+     */
+    private static final EOObject MISSING = new EOObject() {
+    };
+
+    /**
+     * The data behind this object memoized by its first dataization (for pure objects only, see {@link #_isPure}).
+     */
+    private EOData _memoizedData;
+
     /**
      * User-defined class (i.e., one generated by transpiler) overrides this method
      * to declare its decoratee (i.e., an object it decorates).
@@ -40,6 +72,19 @@ public abstract class EOObject implements Cloneable {
         return null;
     }
 
+    /**
+     * User-defined class (i.e., one generated by transpiler) overrides this method
+     * to declare that its objects are pure, i.e., the data behind such an object is the same whenever
+     * the object is dataized, and the dataization has no side effects.
+     * The data behind a pure object is memoized by its first dataization (see {@link EODataCache}).
+     * By default, this method returns false, which means that objects are dataized every time they are asked for data.
+     *
+     * @return Is this object pure?
+     */
+    protected boolean _isPure() {
+        return false;
+    }
+
     /**
      * Provides checked (safe) access to the decoratee of this object.
      * This method is used when the decoratee object is explicitly accessed in the user-defined code through the '@' symbol.
@@ -74,54 +119,298 @@ public abstract class EOObject implements Cloneable {
 
     /**
      * Retrieves data behind this object (i.e., performs dataization operation over the object).
+     * If the iterative dataization engine is enabled, the dataization is delegated to it (see {@link EOTrampoline}).
+     * Pure objects are dataized only once (see {@link #_isPure}).
      *
      * @return Data behind this object.
      * @throws RuntimeException Thrown when this object cannot be dataized since it has nor data behind it, neither a decoratee to rely on.
      */
     public EOData _getData() {
-        final EOObject decoratedObject = _decoratee();
-        if (decoratedObject == null) {
-            throw new RuntimeException(String.format("Object %s cannot be dataized: it has nor data behind it, neither a decoratee to rely on.", getClass().getTypeName()));
+        if (!_isPure()) {
+            return _dataize();
+        }
+        EOData data = _memoizedData;
+        if (data != null) {
+            EODataCache.hit();
+            return data;
+        }
+        EODataCache.miss();
+        data = _dataize();
+        _memoizedData = data;
+        return data;
+    }
+
+    /**
+     * Dataizes this object in advance if its data is memoized (see {@link #_isPure}),
+     * so that the later dataizations of this object only read the memoized data.
+     * This is how dataization is moved to other threads (e.g., by the parallel operations of arrays).
+     * Failures are not reported here, since the data may never be needed:
+     * the dataizations that need it fail the same way.
+     *
+     * @return Is the data behind this object memoized now?
+     */
+    public boolean _prefetchData() {
+        if (!_isPure()) {
+            return false;
+        }
+        try {
+            _getData();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves the integer number behind this object (i.e., dataizes the object and reads its data as an integer).
+     * Standard objects holding numbers override this method to read the number without allocating data,
+     * other objects forward it to the object they are dataized through (see {@link #_getTerminal}).
+     *
+     * @return The integer number behind this object (as {@link EOData#asLong} reads it).
+     * @throws RuntimeException Thrown when this object cannot be dataized since it has nor data behind it, neither a decoratee to rely on.
+     */
+    public long _getLong() {
+        if (_isPure() || EOTrampoline.isEnabled() || DATAIZING.get(getClass())) {
+            return _getData().asLong();
+        }
+        return _getTerminal()._getLong();
+    }
+
+    /**
+     * Retrieves the floating-point number behind this object
+     * (i.e., dataizes the object and reads its data as a floating-point number).
+     * Standard objects holding numbers override this method to read the number without allocating data,
+     * other objects forward it to the object they are dataized through (see {@link #_getTerminal}).
+     *
+     * @return The floating-point number behind this object (as {@link EOData#asDouble} reads it).
+     * @throws RuntimeException Thrown when this object cannot be dataized since it has nor data behind it, neither a decoratee to rely on.
+     */
+    public double _getDouble() {
+        if (_isPure() || EOTrampoline.isEnabled() || DATAIZING.get(getClass())) {
+            return _getData().asDouble();
+        }
+        return _getTerminal()._getDouble();
+    }
+
+    private EOData _dataize() {
+        if (EOTrampoline.isEnabled()) {
+            return EOTrampoline.dataize(this);
         }
-        return decoratedObject._getData();
+        return _getTerminal()._getData();
+    }
+
+    /**
+     * Resolves the object this object is dataized through, i.e., the first object in the decoration chain
+     * of this object that declares how it is dataized.
+     * The chain is walked iteratively (forcing thunks on the way) only once:
+     * the resolved object is recorded in every object on the chain, so repeated dataizations of any of them
+     * do not walk the chain again.
+     * Recording is safe, since each object has the same decoratee whenever it is asked for it
+     * (decoratees are cached by the generated classes or are equal objects).
+     *
+     * @return The object whose data is the data behind this object.
+     * @throws RuntimeException Thrown when some object in the chain has nor data behind it, neither a decoratee to rely on.
+     */
+    final EOObject _getTerminal() {
+        return _resolveTerminal(true);
+    }
+
+    /**
+     * Resolves the object this object is dataized through (see {@link #_getTerminal}) without failing
+     * when there is no such object. This is how objects find out if they can be dataized at all
+     * (e.g., to compare themselves with objects that have no data, such as arrays or abstractions).
+     *
+     * @return The object whose data is the data behind this object,
+     * or null if some object in the chain has nor data behind it, neither a decoratee to rely on.
+     */
+    public final EOObject _findTerminal() {
+        return _resolveTerminal(false);
+    }
+
+    /**
+     * Walks the decoration chain of this object (see {@link #_getTerminal}).
+     *
+     * @param required Should the walk fail (rather than result in null) when the chain ends with an object without data?
+     */
+    private EOObject _resolveTerminal(boolean required) {
+        EOObject terminal = _terminal;
+        if (terminal != null) {
+            return terminal;
+        }
+        ArrayList<EOObject> chain = new ArrayList<>();
+        EOObject current = this;
+        while (true) {
+            if (current instanceof EOThunk) {
+                current = ((EOThunk) current)._getComputed();
+                continue;
+            }
+            if (current._terminal != null) {
+                terminal = current._terminal;
+                break;
+            }
+            if (DATAIZING.get(current.getClass())) {
+                terminal = current;
+                break;
+            }
+            chain.add(current);
+            EOObject decoratee = current._decoratee();
+            if (decoratee == null) {
+                if (!required) {
+                    return null;
+                }
+                throw new RuntimeException(String.format("Object %s cannot be dataized: it has nor data behind it, neither a decoratee to rely on.", current.getClass().getTypeName()));
+            }
+            current = decoratee;
+        }
+        for (EOObject object : chain) {
+            object._terminal = terminal;
+        }
+        return terminal;
     }
 
     /**
      * Instantiates the attribute object {@code name} of this object.
      * Performs lookup of the attribute in the class that declares this object + in the decoration hierarchy.
+     * The lookup relies on the dispatch tables of the classes (see {@link EODispatchTable}),
+     * so the methods of each class are scanned only once.
      *
      * @param name      The name of the attribute being accessed.
      * @param arguments The arguments that are passed to the attribute object application/instantiation method.
      * @return The attribute object instantiated with the provided arguments.
-     * @throws RuntimeException Thrown when the attribute is not present in this object.
+     * @throws EOAttributeNotFound Thrown when the attribute is not present in this object.
      */
     public EOObject _getAttribute(String name, EOObject... arguments) {
-        try {
-            Method method = Arrays.stream(getClass().getMethods()).filter(mthd -> mthd.getName().equals(name)).findFirst().get();
-            Parameter[] methodParams = method.getParameters();
-            method.setAccessible(true);
-            return (EOObject) method.invoke(this, _prepareFreeAtt(methodParams, arguments));
-        } catch (Exception e) {
-            if (_decoratee() != null && _decoratee() != this) {
-                return _decoratee()._getAttribute(name, arguments);
+        EODispatchTable.Attribute attribute = EODispatchTable.of(getClass()).find(name, arguments.length);
+        if (attribute != null) {
+            return attribute.invoke(this, arguments);
+        }
+        return _getOwner(name, arguments.length)._getAttribute(name, arguments);
+    }
+
+    /**
+     * Determines if this object or an object of its decoration chain has the attribute {@code name}
+     * applicable to {@code arity} arguments. The lookup does not throw on a miss, and the result is recorded
+     * the same way as the one of an attribute access (see {@link #_getOwner}).
+     * Objects that resolve attributes on their own are assumed to have any attribute.
+     *
+     * @param name  The target (Java) name of the attribute.
+     * @param arity The number of arguments the attribute is applied to.
+     * @return Can the attribute be accessed?
+     */
+    public boolean _hasAttribute(String name, int arity) {
+        EODispatchTable table = EODispatchTable.of(getClass());
+        return table.find(name, arity) != null || table.resolvesDynamically() || _findOwner(name, arity) != MISSING;
+    }
+
+    /**
+     * Finds the object in the decoration chain of this object that has the attribute {@code name}
+     * applicable to {@code arity} arguments (the class of this object is assumed not to declare it).
+     *
+     * @param name  The target (Java) name of the attribute.
+     * @param arity The number of arguments the attribute is applied to.
+     * @return The object that declares the attribute (or resolves attributes on its own).
+     * @throws EOAttributeNotFound Thrown when neither of the decoratees of this object has the attribute.
+     */
+    final EOObject _getOwner(String name, int arity) {
+        EOObject owner = _findOwner(name, arity);
+        if (owner == MISSING) {
+            throw new EOAttributeNotFound(name, _getDecorationPath());
+        }
+        return owner;
+    }
+
+    /**
+     * Finds the object in the decoration chain of this object that has the attribute {@code name}
+     * applicable to {@code arity} arguments (the class of this object is assumed not to declare it).
+     * The chain is walked iteratively (forcing thunks on the way) once per attribute:
+     * the found object (or the miss) is recorded in this object, and the walk stops early at objects
+     * that recorded it already.
+     *
+     * @return The object that declares the attribute (or resolves attributes on its own),
+     * or {@link #MISSING} if neither of the decoratees of this object has the attribute.
+     */
+    private EOObject _findOwner(String name, int arity) {
+        EOObject owner = Owner.find(_owners, name, arity);
+        if (owner != null) {
+            return owner;
+        }
+        EOObject current = this;
+        while (owner == null) {
+            EOObject decoratee = current._decoratee();
+            if (decoratee == null || decoratee == current) {
+                owner = MISSING;
+                break;
+            }
+            current = decoratee;
+            while (current instanceof EOThunk) {
+                current = ((EOThunk) current)._getComputed();
+            }
+            EODispatchTable table = EODispatchTable.of(current.getClass());
+            if (table.find(name, arity) != null || table.resolvesDynamically()) {
+                owner = current;
             } else {
-                e.printStackTrace();
-                throw new RuntimeException(String.format("Can't access the %s attribute of the %s object", name, getClass().getTypeName()));
+                owner = Owner.find(current._owners, name, arity);
             }
         }
+        _owners = new Owner(name, arity, owner, _owners);
+        return owner;
     }
 
-    private Object[] _prepareFreeAtt(Parameter[] methodParams, EOObject... arguments) {
-        List<Object> methodValues = new ArrayList<>();
-        for (int i = 0; i < methodParams.length; i++) {
-            if (methodParams[i].getType().getCanonicalName().endsWith("[]")) {
-                List<EOObject> objs = Arrays.stream(arguments).skip(i).collect(Collectors.toList());
-                methodValues.add(objs.toArray(new EOObject[0]));
+    /**
+     * Lists the types of the objects of the decoration chain of this object (this object first).
+     */
+    private List<String> _getDecorationPath() {
+        List<String> path = new ArrayList<>();
+        EOObject current = this;
+        while (current != null) {
+            path.add(current.getClass().getTypeName());
+            EOObject decoratee = current._decoratee();
+            if (decoratee == current) {
                 break;
-            } else {
-                methodValues.add(arguments[i]);
             }
+            current = decoratee;
+            while (current instanceof EOThunk) {
+                current = ((EOThunk) current)._getComputed();
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Represents an attribute found in the decoration chain of an object
+     * (an element of the immutable list of such attributes, so the list is safely shared between threads).
+     */
+    private static final class Owner {
+
+        private final String name;
+        private final int arity;
+
+        /**
+         * The object that has the attribute.
+         */
+        private final EOObject object;
+
+        private final Owner next;
+
+        private Owner(String name, int arity, EOObject object, Owner next) {
+            this.name = name;
+            this.arity = arity;
+            this.object = object;
+            this.next = next;
+        }
+
+        /**
+         * Finds the object that has the attribute {@code name} applicable to {@code arity} arguments in the {@code owners} list.
+         *
+         * @return The object ({@link #MISSING} if the attribute is recorded as missing), or null if the attribute is not in the list.
+         */
+        private static EOObject find(Owner owners, String name, int arity) {
+            for (Owner owner = owners; owner != null; owner = owner.next) {
+                if (owner.arity == arity && owner.name.equals(name)) {
+                    return owner.object;
+                }
+            }
+            return null;
         }
-        return methodValues.toArray();
     }
 }
@@ -2,6 +2,10 @@ package org.eolang.core;
 
 import org.eolang.core.data.EOData;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.function.Supplier;
 
 /**
@@ -15,15 +19,27 @@ import java.util.function.Supplier;
  */
 public class EOThunk extends EOObject {
 
+    private static final VarHandle COMPUTED;
+
+    static {
+        try {
+            COMPUTED = MethodHandles.lookup().findVarHandle(EOThunk.class, "computed", EOObject.class);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     /**
      * The saved instance of the wrapped object.
+     * It is published atomically, so all the threads forcing the thunk get the same instance.
      */
-    private EOObject computed;
+    private volatile EOObject computed;
 
     /***
      * The lambda that is used to instantiate the wrapped object lazily.
+     * It is released once the wrapped object is saved, so that the objects it captured can be collected.
      */
-    private Supplier<EOObject> thunk;
+    private volatile Supplier<EOObject> thunk;
 
     /**
      * Creates a lazy (delayed) instantiation of a wrapped object.
@@ -35,41 +51,96 @@ public class EOThunk extends EOObject {
     }
 
     /**
-     * Unwraps the wrapped object. Called only once (when any message is sent to the thunk for the first time).
+     * Retrieves the wrapped object (instantiates it on the first access).
+     * Threads racing to force the thunk may instantiate the wrapped object concurrently,
+     * but only one of the instances is saved and returned to all of them.
+     * If the wrapped object is a thunk itself, the chain of thunks is collapsed to the object at its end.
+     * The chain is forced iteratively (thunks waiting for the end of the chain are kept on a heap-allocated stack),
+     * so long chains do not take the thread stack.
+     * If the iterative dataization engine is enabled, the wrapped objects are instantiated through it
+     * (see {@link EOTrampoline#evaluate}), so deeply nested instantiations do not overflow the thread stack either.
      */
-    private void compute() {
-        computed = thunk.get();
+    EOObject _getComputed() {
+        EOObject value = computed;
+        if (value != null) {
+            return value;
+        }
+        Deque<EOThunk> pending = null;
+        EOThunk current = this;
+        while (true) {
+            value = current.computed;
+            if (value != null) {
+                break;
+            }
+            Supplier<EOObject> supplier = current.thunk;
+            if (supplier == null) {
+                // another thread has saved the wrapped object already
+                value = current.computed;
+                break;
+            }
+            // the wrapped object may force other thunks as it is instantiated (see EOTrampoline)
+            value = EOTrampoline.isEnabled() ? EOTrampoline.evaluate(supplier) : supplier.get();
+            if (!(value instanceof EOThunk)) {
+                value = current.publish(value);
+                break;
+            }
+            if (pending == null) {
+                pending = new ArrayDeque<>();
+            }
+            pending.push(current);
+            current = (EOThunk) value;
+        }
+        while (pending != null && !pending.isEmpty()) {
+            value = pending.pop().publish(value);
+        }
+        return value;
+    }
+
+    /**
+     * Saves the {@code value} as the wrapped object unless another thread has saved its own instance already.
+     *
+     * @return The saved wrapped object.
+     */
+    private EOObject publish(EOObject value) {
+        if (COMPUTED.compareAndSet(this, null, value)) {
+            thunk = null;
+            return value;
+        }
+        return computed;
     }
 
     @Override
     public EOObject _getDecoratedObject() {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getDecoratedObject();
+        return _getComputed()._getDecoratedObject();
     }
 
     @Override
     public EOObject _getParentObject() {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getParentObject();
+        return _getComputed()._getParentObject();
     }
 
     @Override
     public EOData _getData() {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getData();
+        return _getComputed()._getData();
+    }
+
+    @Override
+    public long _getLong() {
+        return _getComputed()._getLong();
+    }
+
+    @Override
+    public double _getDouble() {
+        return _getComputed()._getDouble();
+    }
+
+    @Override
+    public boolean _hasAttribute(String name, int arity) {
+        return _getComputed()._hasAttribute(name, arity);
     }
 
     @Override
     public EOObject _getAttribute(String name, EOObject... arguments) {
-        if (computed == null) {
-            compute();
-        }
-        return computed._getAttribute(name, arguments);
+        return _getComputed()._getAttribute(name, arguments);
     }
 }
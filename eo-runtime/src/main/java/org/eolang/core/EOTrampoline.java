@@ -0,0 +1,252 @@
+package org.eolang.core;
+
+import org.eolang.core.data.EOData;
+
+import java.util.function.Supplier;
+
+/**
+ * Declares the iterative (trampolined) dataization engine.
+ * Decoration chains are walked iteratively by any dataization (see {@link EOObject#_getTerminal}),
+ * so the thread stack is only used by objects that dataize other objects on their own
+ * (e.g., standard objects dataizing their arguments), and by thunks whose wrapped objects force other thunks
+ * as they are instantiated. Programs with deep recursion through such objects therefore need a large thread stack.
+ * The engine spreads nested dataizations (and instantiations) over as many stack segments as they need instead.
+ * <p>
+ * The engine is disabled by default, it is enabled via the '--trampoline' option of {@link Main}.
+ */
+public final class EOTrampoline {
+
+    /**
+     * The maximum number of nested dataizations performed on a single stack segment.
+     */
+    static final int SEGMENT_DEPTH = 1024;
+
+    /**
+     * The maximum number of nested dataizations performed on a thread that is not a stack segment
+     * (e.g., the main thread or a worker of a fork/join pool). The stacks of such threads are not known
+     * to be as large as the stacks of the segments (the default thread stack takes about 500 nested dataizations).
+     */
+    static final int CALLER_DEPTH = 128;
+
+    /**
+     * The size of the stack of a single stack segment (in bytes).
+     */
+    private static final long SEGMENT_STACK_SIZE = 16L << 20;
+
+    /**
+     * The time a stack segment waits for the next dataization before it finishes (in milliseconds).
+     */
+    private static final long SEGMENT_IDLE_TIME = 1000;
+
+    /**
+     * Is the engine used for dataization of all the objects?
+     */
+    private static volatile boolean enabled;
+
+    /**
+     * The number of nested dataizations the current thread is performing at the moment.
+     */
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    /**
+     * The stack segment that continues the nested dataizations of the current thread that get too deep for it.
+     */
+    private static final ThreadLocal<Segment> CONTINUATION = new ThreadLocal<>();
+
+    private EOTrampoline() {
+    }
+
+    /**
+     * Makes the engine perform dataization of all the objects.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+
+    /**
+     * Determines if the engine performs dataization of all the objects.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Dataizes the {@code object} by walking its decoration chain iteratively.
+     * Nested dataizations (i.e., objects dataizing other objects on their own) still take the thread stack:
+     * they are performed on the current thread, but once they get deeper than {@link #SEGMENT_DEPTH} on it
+     * ({@link #CALLER_DEPTH} if the current thread is not a stack segment),
+     * the dataization continues on a stack segment (another thread with its own stack, while the current thread waits
+     * for it). Every thread has a single such continuation that performs all the dataizations handed over by the thread
+     * one by one (the continuation of a segment is another segment, and so on).
+     * Thus, shallow dataizations never leave the current thread, and the depth of nested dataizations
+     * is bounded by the available memory rather than by the thread stack size.
+     *
+     * @param object The object to dataize.
+     * @return Data behind the object.
+     * @throws RuntimeException Thrown when some object in the chain has nor data behind it, neither a decoratee.
+     */
+    public static EOData dataize(EOObject object) {
+        return evaluate(() -> walk(object));
+    }
+
+    /**
+     * Performs the {@code computation} (e.g., a dataization, or an instantiation of the object wrapped into a thunk,
+     * see {@link EOThunk}) on the current thread, or on a stack segment if the nested computations
+     * have got too deep for the current thread (the same way {@link #dataize} does it).
+     *
+     * @param computation The computation to perform.
+     * @return The result of the computation.
+     */
+    static <T> T evaluate(Supplier<T> computation) {
+        int[] depth = DEPTH.get();
+        if (depth[0] >= (Thread.currentThread() instanceof Segment ? SEGMENT_DEPTH : CALLER_DEPTH)) {
+            return continuation().evaluate(computation);
+        }
+        depth[0]++;
+        try {
+            return computation.get();
+        } finally {
+            depth[0]--;
+        }
+    }
+
+    /**
+     * Retrieves the stack segment that continues the nested dataizations of the current thread
+     * (a new segment is started if the current thread has none, or its segment has finished being idle).
+     */
+    private static Segment continuation() {
+        Segment segment = CONTINUATION.get();
+        if (segment == null || !segment.isAlive()) {
+            segment = new Segment();
+            segment.start();
+            CONTINUATION.set(segment);
+        }
+        return segment;
+    }
+
+    /**
+     * Dataizes the {@code object} through the object at the end of its decoration chain
+     * (the chain is walked iteratively, see {@link EOObject#_getTerminal}).
+     */
+    private static EOData walk(EOObject object) {
+        return object._getTerminal()._getData();
+    }
+
+    /**
+     * Declares a stack segment: a thread that continues the computations (dataizations, mostly) handed over
+     * by another thread while that thread waits. A segment waits for the next computation for {@link #SEGMENT_IDLE_TIME}
+     * and finishes if there is none.
+     */
+    private static final class Segment extends Thread {
+
+        /**
+         * The computation to be performed by the segment (null if the segment has no computation to perform).
+         */
+        private Supplier<?> computation;
+
+        private Object result;
+        private Throwable failure;
+
+        /**
+         * Has the segment performed the computation it was handed over?
+         */
+        private boolean done;
+
+        /**
+         * Has the segment finished (so it takes no more computations)?
+         */
+        private boolean finished;
+
+        private Segment() {
+            super(null, null, "eo-dataization", SEGMENT_STACK_SIZE);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            Supplier<?> task;
+            while ((task = next()) != null) {
+                Object value = null;
+                Throwable error = null;
+                try {
+                    value = EOTrampoline.evaluate(task);
+                } catch (Throwable e) {
+                    error = e;
+                }
+                complete(value, error);
+            }
+        }
+
+        /**
+         * Waits for the next computation handed over to the segment.
+         *
+         * @return The computation, or null if the segment has been idle for too long (so it finishes).
+         */
+        private synchronized Supplier<?> next() {
+            long deadline = System.currentTimeMillis() + SEGMENT_IDLE_TIME;
+            while (computation == null) {
+                long timeout = deadline - System.currentTimeMillis();
+                if (timeout <= 0) {
+                    finished = true;
+                    return null;
+                }
+                try {
+                    wait(timeout);
+                } catch (InterruptedException e) {
+                    finished = true;
+                    return null;
+                }
+            }
+            Supplier<?> task = computation;
+            computation = null;
+            return task;
+        }
+
+        private synchronized void complete(Object value, Throwable error) {
+            result = value;
+            failure = error;
+            done = true;
+            notifyAll();
+        }
+
+        /**
+         * Hands the {@code computation} over to the segment and waits for its result.
+         */
+        @SuppressWarnings("unchecked")
+        private <T> T evaluate(Supplier<T> computation) {
+            synchronized (this) {
+                if (finished) {
+                    CONTINUATION.remove();
+                    return continuation().evaluate(computation);
+                }
+                this.computation = computation;
+                done = false;
+                notifyAll();
+                try {
+                    while (!done) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    // the segment is still busy, so the next dataizations are handed over to a new one
+                    CONTINUATION.remove();
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("The dataization was interrupted", e);
+                }
+                Object value = result;
+                Throwable error = failure;
+                result = null;
+                failure = null;
+                if (error instanceof RuntimeException) {
+                    throw (RuntimeException) error;
+                }
+                if (error instanceof Error) {
+                    throw (Error) error;
+                }
+                if (error != null) {
+                    throw new RuntimeException(error);
+                }
+                return (T) value;
+            }
+        }
+    }
+}
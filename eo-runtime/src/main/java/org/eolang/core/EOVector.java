@@ -0,0 +1,339 @@
+package org.eolang.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Declares the persistent (immutable) vector of objects that backs EO arrays.
+ * The vector is a 32-way trie with the last (up to 32) elements kept aside in the tail:
+ * appending an element copies the tail only (and pushes a full tail into the trie once per 32 elements),
+ * while reading or replacing an element takes a walk from the root of the trie to a leaf (i.e., log32 of the size).
+ * Vectors produced by operations share all the unchanged nodes with the original vectors.
+ * <p>
+ * Vectors are built in one pass (without the intermediate copies of appending) through {@link Builder}.
+ */
+public final class EOVector implements Iterable<EOObject> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * The empty vector.
+     */
+    public static final EOVector EMPTY = new EOVector(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int size;
+
+    /**
+     * The number of bits of an index consumed by the levels below the root.
+     */
+    private final int shift;
+
+    /**
+     * The root of the trie: internal nodes hold nodes of the next level, leaves hold the elements.
+     */
+    private final Object[] root;
+
+    /**
+     * The last elements of the vector (not pushed into the trie yet).
+     */
+    private final Object[] tail;
+
+    private EOVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Makes a vector of the {@code objects} (the array is copied).
+     */
+    public static EOVector of(EOObject... objects) {
+        Builder builder = new Builder(objects.length);
+        for (EOObject object : objects) {
+            builder.add(object);
+        }
+        return builder.build();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the element at the position {@code index}.
+     *
+     * @throws IndexOutOfBoundsException Thrown when the index is out of bounds of the vector.
+     */
+    public EOObject get(int index) {
+        return (EOObject) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Produces a vector with the {@code object} appended to the end of this vector.
+     */
+    public EOVector append(EOObject object) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = object;
+            return new EOVector(size + 1, shift, root, newTail);
+        }
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            // the trie is full, so it grows by one level
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new EOVector(size + 1, newShift, newRoot, new Object[]{object});
+    }
+
+    /**
+     * Produces a vector with the element at the position {@code index} replaced with the {@code object}.
+     *
+     * @throws IndexOutOfBoundsException Thrown when the index is out of bounds of the vector.
+     */
+    public EOVector set(int index, EOObject object) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = object;
+            return new EOVector(size, shift, root, newTail);
+        }
+        return new EOVector(size, shift, set(shift, root, index, object), tail);
+    }
+
+    /**
+     * Copies the elements of the vector to an array.
+     */
+    public EOObject[] toArray() {
+        EOObject[] result = new EOObject[size];
+        int tailOffset = tailOffset();
+        for (int offset = 0; offset < tailOffset; offset += WIDTH) {
+            System.arraycopy(leafFor(offset), 0, result, offset, WIDTH);
+        }
+        System.arraycopy(tail, 0, result, tailOffset, size - tailOffset);
+        return result;
+    }
+
+    /**
+     * Iterates over the elements of the vector (a leaf at a time).
+     */
+    @Override
+    public Iterator<EOObject> iterator() {
+        return iterator(0, size);
+    }
+
+    /**
+     * Iterates over the elements of the vector at the positions from {@code from} (inclusive)
+     * to {@code to} (exclusive), a leaf at a time.
+     *
+     * @throws IndexOutOfBoundsException Thrown when the range is out of bounds of the vector.
+     */
+    public Iterator<EOObject> iterator(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d) out of bounds for length %d", from, to, size));
+        }
+        return new Iterator<>() {
+            private int index = from;
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return index < to;
+            }
+
+            @Override
+            public EOObject next() {
+                if (index >= to) {
+                    throw new NoSuchElementException();
+                }
+                if (leaf == null || (index & MASK) == 0) {
+                    leaf = leafFor(index);
+                }
+                return (EOObject) leaf[index++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Determines if the {@code o} object is a vector of equal elements (in the same order).
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EOVector)) return false;
+        EOVector that = (EOVector) o;
+        if (size != that.size) return false;
+        Iterator<EOObject> other = that.iterator();
+        for (EOObject object : this) {
+            if (!object.equals(other.next())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the hash code of the vector the way {@link java.util.List#hashCode} does.
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (EOObject object : this) {
+            hash = 31 * hash + object.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * The position of the first element kept in the tail.
+     */
+    private int tailOffset() {
+        if (size < WIDTH) {
+            return 0;
+        }
+        return ((size - 1) >>> BITS) << BITS;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d", index, size));
+        }
+    }
+
+    /**
+     * Finds the leaf (or the tail) that keeps the element at the position {@code index}.
+     */
+    private Object[] leafFor(int index) {
+        checkIndex(index);
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Copies the path from the {@code parent} node at the {@code level} to the place of the next leaf
+     * and puts the {@code leaf} there.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] leaf) {
+        int index = ((size - 1) >>> level) & MASK;
+        Object[] result = parent.clone();
+        if (level == BITS) {
+            result[index] = leaf;
+        } else {
+            Object[] child = (Object[]) parent[index];
+            result[index] = child != null ? pushTail(level - BITS, child, leaf) : newPath(level - BITS, leaf);
+        }
+        return result;
+    }
+
+    /**
+     * Makes a path of nodes from the {@code level} down to the {@code leaf}.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] set(int level, Object[] node, int index, EOObject object) {
+        Object[] result = node.clone();
+        if (level == 0) {
+            result[index & MASK] = object;
+        } else {
+            int child = (index >>> level) & MASK;
+            result[child] = set(level - BITS, (Object[]) node[child], index, object);
+        }
+        return result;
+    }
+
+    /**
+     * Collects elements and builds a vector of them at once (the trie is built bottom-up, without copying nodes).
+     * A builder is not thread-safe and must not be used after the vector is built.
+     */
+    public static final class Builder {
+
+        private Object[] elements;
+        private int size;
+
+        public Builder() {
+            this(WIDTH);
+        }
+
+        /**
+         * @param capacity The expected number of elements.
+         */
+        public Builder(int capacity) {
+            this.elements = new Object[Math.max(capacity, 1)];
+        }
+
+        /**
+         * Adds the {@code object} to the end of the vector being built.
+         *
+         * @return This builder.
+         */
+        public Builder add(EOObject object) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, elements.length * 2);
+            }
+            elements[size++] = object;
+            return this;
+        }
+
+        /**
+         * Adds all the elements of the {@code vector} to the end of the vector being built.
+         *
+         * @return This builder.
+         */
+        public Builder addAll(EOVector vector) {
+            for (EOObject object : vector) {
+                add(object);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the vector of the added elements.
+         */
+        public EOVector build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            int tailOffset = size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+            Object[] tail = Arrays.copyOfRange(elements, tailOffset, size);
+            Object[][] nodes = new Object[tailOffset >>> BITS][];
+            for (int i = 0; i < nodes.length; i++) {
+                nodes[i] = Arrays.copyOfRange(elements, i << BITS, (i + 1) << BITS);
+            }
+            int shift = BITS;
+            while (nodes.length > WIDTH) {
+                Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+                for (int i = 0; i < parents.length; i++) {
+                    parents[i] = Arrays.copyOfRange(nodes, i << BITS, (i + 1) << BITS, Object[].class);
+                }
+                nodes = parents;
+                shift += BITS;
+            }
+            Object[] root = Arrays.copyOf(nodes, WIDTH, Object[].class);
+            return new EOVector(size, shift, root, tail);
+        }
+    }
+}
@@ -49,6 +49,12 @@ public class Main {
             this.version();
             return;
         }
+        if ("--trampoline".equals(args[0])) {
+            // dataize the program with the iterative engine
+            EOTrampoline.enable();
+            this.exec(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
         final String path = args[0].replaceAll("([^.]+)$", "EO$1");
         Constructor<?> appConstructor = Arrays.stream(Class.forName(path).getConstructors())
                 .findFirst().get();
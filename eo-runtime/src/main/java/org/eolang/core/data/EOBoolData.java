@@ -0,0 +1,63 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - логическое значение (существует по одному объекту на каждое значение).
+ */
+public final class EOBoolData extends EOData {
+
+    public static final EOBoolData TRUE = new EOBoolData(true);
+    public static final EOBoolData FALSE = new EOBoolData(false);
+
+    private final boolean value;
+
+    private EOBoolData(boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * Данные логического значения {@code value}
+     */
+    public static EOBoolData of(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    @Override
+    public String toString() {
+        return Boolean.toString(value);
+    }
+
+    @Override
+    public Object toObject() {
+        return value;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return value;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
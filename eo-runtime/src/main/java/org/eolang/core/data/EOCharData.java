@@ -0,0 +1,53 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - символ (хранится без упаковки).
+ */
+public final class EOCharData extends EOData {
+
+    private final char value;
+
+    public EOCharData(char value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(value);
+    }
+
+    @Override
+    public Object toObject() {
+        return value;
+    }
+
+    @Override
+    public char asChar() {
+        return value;
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
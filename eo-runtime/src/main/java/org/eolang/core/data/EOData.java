@@ -4,10 +4,14 @@ import java.util.Objects;
 
 /**
  * Объект представляющий данные - результат датаризации в EO.
+ * Данные стандартных типов представлены подклассами, хранящими значения без упаковки
+ * ({@link EOIntData}, {@link EOFloatData}, {@link EOBoolData}, {@link EOCharData}, {@link EOStringData}, {@link EONoData}),
+ * их значения читаются методами {@code as...()} без выделения памяти.
+ * Методы {@code to...()} сохранены для совместимости и возвращают те же значения в упакованном виде.
  */
 public class EOData {
     /**
-     * Данные
+     * Данные (для данных стандартных типов не используются)
      */
     private Object _data;
 
@@ -15,6 +19,35 @@ public class EOData {
         this._data = _data;
     }
 
+    /**
+     * Конструктор данных стандартных типов (их значения хранятся в подклассах)
+     */
+    EOData() {
+        this(null);
+    }
+
+    /**
+     * Создание данных подходящего типа для значения {@code data}
+     */
+    public static EOData from(Object data) {
+        if (data instanceof Long) {
+            return EOIntData.of((Long) data);
+        }
+        if (data instanceof Double) {
+            return new EOFloatData((Double) data);
+        }
+        if (data instanceof Boolean) {
+            return EOBoolData.of((Boolean) data);
+        }
+        if (data instanceof Character) {
+            return new EOCharData((Character) data);
+        }
+        if (data instanceof String) {
+            return new EOStringData((String) data);
+        }
+        return new EOData(data);
+    }
+
     /**
      * Приведение типа данных к строке
      */
@@ -31,6 +64,13 @@ public class EOData {
      * @return a character value of the data, otherwise 0
      */
     public Character toChar() {
+        return asChar();
+    }
+
+    /**
+     * Приведение типа данных к символу (без упаковки)
+     */
+    public char asChar() {
         if (_data.getClass().equals(Character.class)) {
             return _data.toString().charAt(0);
         }
@@ -45,11 +85,18 @@ public class EOData {
      * Приведение типа данных к целому числу
      */
     public Long toInt() {
+        return asLong();
+    }
+
+    /**
+     * Приведение типа данных к целому числу (без упаковки)
+     */
+    public long asLong() {
         if (_data.getClass().equals(Long.class)) {
             return (Long) _data;
         }
         if (_data.getClass().equals(Integer.class)) {
-            return Long.valueOf((Integer) _data);
+            return (Integer) _data;
         }
         return 0L;
     }
@@ -58,11 +105,18 @@ public class EOData {
      * Приведение типа данных к дробному числу
      */
     public Double toFloat() {
+        return asDouble();
+    }
+
+    /**
+     * Приведение типа данных к дробному числу (без упаковки)
+     */
+    public double asDouble() {
         if (_data.getClass().equals(Double.class)) {
             return (Double) _data;
         }
         if (_data.getClass().equals(Float.class)) {
-            return Double.valueOf((Float) _data);
+            return (Float) _data;
         }
         return 0D;
     }
@@ -71,6 +125,13 @@ public class EOData {
      * Приведение типа данных к логическому значению
      */
     public Boolean toBoolean() {
+        return asBoolean();
+    }
+
+    /**
+     * Приведение типа данных к логическому значению (без упаковки)
+     */
+    public boolean asBoolean() {
         if (_data.getClass().equals(Boolean.class)) {
             return (Boolean) _data;
         }
@@ -13,11 +13,11 @@ public class EODataObject extends EOObject {
     protected EOData _data;
 
     public EODataObject(Object _data) {
-        this._data = new EOData(_data);
+        this._data = EOData.from(_data);
     }
 
     public EODataObject() {
-        this._data = new EONoData();
+        this._data = EONoData.INSTANCE;
     }
 
     public EODataObject(EOData _data) {
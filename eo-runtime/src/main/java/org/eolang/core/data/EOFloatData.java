@@ -0,0 +1,53 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - дробное число (хранится без упаковки).
+ */
+public final class EOFloatData extends EOData {
+
+    private final double value;
+
+    public EOFloatData(double value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return Double.toString(value);
+    }
+
+    @Override
+    public Object toObject() {
+        return value;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public long asLong() {
+        return 0L;
+    }
+
+    @Override
+    public double asDouble() {
+        return value;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return false;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return true;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return false;
+    }
+}
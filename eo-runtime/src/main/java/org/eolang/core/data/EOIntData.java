@@ -0,0 +1,81 @@
+package org.eolang.core.data;
+
+/**
+ * Данные - целое число (хранится без упаковки).
+ */
+public final class EOIntData extends EOData {
+
+    /**
+     * Наименьшее из чисел, данные которых создаются заранее
+     */
+    private static final long CACHE_LOW = -128;
+
+    /**
+     * Наибольшее из чисел, данные которых создаются заранее
+     */
+    private static final long CACHE_HIGH = 1024;
+
+    private static final EOIntData[] CACHE = new EOIntData[(int) (CACHE_HIGH - CACHE_LOW + 1)];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++) {
+            CACHE[i] = new EOIntData(CACHE_LOW + i);
+        }
+    }
+
+    private final long value;
+
+    public EOIntData(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Данные числа {@code value} (для небольших чисел - заранее созданные)
+     */
+    public static EOIntData of(long value) {
+        if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+            return CACHE[(int) (value - CACHE_LOW)];
+        }
+        return new EOIntData(value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public Object toObject() {
+        return value;
+    }
+
+    @Override
+    public char asChar() {
+        return '0';
+    }
+
+    @Override
+    public long asLong() {
+        return value;
+    }
+
+    @Override
+    public double asDouble() {
+        return 0D;
+    }
+
+    @Override
+    public boolean asBoolean() {
+        return value != 0L;
+    }
+
+    @Override
+    public boolean isFloat() {
+        return false;
+    }
+
+    @Override
+    public boolean isInteger() {
+        return true;
+    }
+}
@@ -3,7 +3,13 @@ package org.eolang.core.data;
 /**
  * Объект-заглушка, представляющий пустые данные
  */
-public class EONoData extends EOData {
+public class EONoData extends EOStringData {
+
+    /**
+     * Общий для всех объектов экземпляр пустых данных
+     */
+    public static final EONoData INSTANCE = new EONoData();
+
     public EONoData() {
         super("");
     }
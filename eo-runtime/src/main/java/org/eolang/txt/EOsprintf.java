@@ -3,6 +3,7 @@ package org.eolang.txt;
 import org.eolang.EOarray;
 import org.eolang.core.EOObject;
 import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOStringData;
 
 import java.util.Arrays;
 import java.util.Objects;
@@ -23,7 +24,7 @@ public class EOsprintf extends EOObject {
     public EOData _getData() {
         String sFormat = format._getData().toString();
         Object[] objects = Arrays.stream(data).map(obj -> obj._getData().toObject()).toArray();
-        return new EOData(
+        return new EOStringData(
                 String.format(
                         sFormat,
                         objects
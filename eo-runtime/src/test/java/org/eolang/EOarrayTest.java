@@ -1,6 +1,8 @@
 package org.eolang;
 
 import org.eolang.core.EOObject;
+import org.eolang.core.data.EOData;
+import org.eolang.core.data.EOIntData;
 import org.eolang.io.EOstdout;
 import org.eolang.txt.EOsprintf;
 import org.hamcrest.MatcherAssert;
@@ -10,9 +12,13 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.obvj.junit.utils.matchers.AdvancedMatchers.throwsException;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -1050,6 +1056,474 @@ class EOarrayTest {
         EOarray outputArray = inputArray.EOreverse();
         MatcherAssert.assertThat(outputArray, is(expectedOutputArray));
     }
+
+    /**
+     * Checks that arrays of numbers behave the same way as arrays of objects
+     * when they are changed and when objects of other types are put in them.
+     */
+    @Test
+    void arraysOfNumbersDegradeToArraysOfObjects() {
+        EOarray ints = new EOarray(new EOint(1), new EOint(2), new EOint(3));
+        EOarray floats = new EOarray(new EOfloat(0.5), new EOfloat(1.5));
+        MatcherAssert.assertThat(ints.EOget(new EOint(1))._getLong(), is(2L));
+        MatcherAssert.assertThat(floats.EOget(new EOint(1))._getDouble(), is(1.5));
+        MatcherAssert.assertThat(
+                ints.EOappend(new EOstring("x")),
+                is(new EOarray(new EOint(1), new EOint(2), new EOint(3), new EOstring("x")))
+        );
+        EOfloat half = new EOfloat(0.5);
+        MatcherAssert.assertThat(
+                ints.EOinsert(half, new EOint(1)),
+                is(new EOarray(new EOint(1), half, new EOint(2), new EOint(3)))
+        );
+        MatcherAssert.assertThat(
+                ints.EOinsert(new EOint(7), new EOint(3)),
+                is(new EOarray(new EOint(1), new EOint(2), new EOint(3), new EOint(7)))
+        );
+        MatcherAssert.assertThat(
+                ints.EOreplace(new EOint(0), new EOint(5)),
+                is(new EOarray(new EOint(5), new EOint(2), new EOint(3)))
+        );
+        MatcherAssert.assertThat(ints.EOremove(new EOint(1)), is(new EOarray(new EOint(1), new EOint(3))));
+        MatcherAssert.assertThat(floats.EOremove(new EOint(0)).EOremove(new EOint(0)), is(new EOarray()));
+        MatcherAssert.assertThat(floats.EOreverse(), is(new EOarray(new EOfloat(1.5), new EOfloat(0.5))));
+        EOarray appended = ints.EOappendAll(floats);
+        MatcherAssert.assertThat(appended.EOlength()._getLong(), is(5L));
+        MatcherAssert.assertThat(appended.EOget(new EOint(2))._getLong(), is(3L));
+        MatcherAssert.assertThat(appended.EOget(new EOint(4))._getDouble(), is(1.5));
+        MatcherAssert.assertThat(ints.hashCode(), is(new EOarray().EOappendAll(ints).hashCode()));
+    }
+
+    /**
+     * Checks that mapping arrays of numbers to numbers of another type (and back) keeps the numbers.
+     */
+    @Test
+    void EOmapConvertsArraysOfNumbers() {
+        EOarray ints = new EOarray(new EOint(1), new EOint(-2), new EOint(3));
+        EOarray floats = ints.EOmap(new EOObject() {
+            public EOObject EOmap(EOObject element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return ((EOint) element).EOtoFloat();
+                    }
+                };
+            }
+        });
+        MatcherAssert.assertThat(floats, is(new EOarray(new EOfloat(1.0), new EOfloat(-2.0), new EOfloat(3.0))));
+        EOarray mixed = floats.EOmapi(new EOObject() {
+            public EOObject EOmapi(EOObject element, EOObject index) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return index._getLong() == 0 ? new EOstring("first") : element;
+                    }
+                };
+            }
+        });
+        MatcherAssert.assertThat(mixed.EOget(new EOint(0)), is(new EOstring("first")));
+        MatcherAssert.assertThat(mixed.EOget(new EOint(1))._getDouble(), is(-2.0));
+        MatcherAssert.assertThat(mixed.EOget(new EOint(2))._getDouble(), is(3.0));
+    }
+
+    /**
+     * Checks that {@code EOslice}, {@code EOtake} and {@code EOdrop} retrieve the right elements.
+     */
+    @Test
+    void EOsliceRetrievesElementsInRange() {
+        EOarray array = new EOarray(new EOint(1), new EOint(2), new EOint(3), new EOint(4), new EOint(5));
+        MatcherAssert.assertThat(
+                array.EOslice(new EOint(1), new EOint(4)),
+                is(new EOarray(new EOint(2), new EOint(3), new EOint(4)))
+        );
+        MatcherAssert.assertThat(array.EOslice(new EOint(3), new EOint(3)), is(new EOarray()));
+        MatcherAssert.assertThat(array.EOslice(new EOint(4), new EOint(-1)), is(new EOarray()));
+        MatcherAssert.assertThat(array.EOslice(new EOint(0), new EOint(5)), is(array));
+        MatcherAssert.assertThat(array.EOtake(new EOint(2)), is(new EOarray(new EOint(1), new EOint(2))));
+        MatcherAssert.assertThat(array.EOtake(new EOint(10)), is(array));
+        MatcherAssert.assertThat(array.EOtake(new EOint(-1)), is(new EOarray()));
+        MatcherAssert.assertThat(array.EOdrop(new EOint(3)), is(new EOarray(new EOint(4), new EOint(5))));
+        MatcherAssert.assertThat(array.EOdrop(new EOint(10)), is(new EOarray()));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.EOslice(new EOint(-1), new EOint(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.EOslice(new EOint(2), new EOint(6)));
+    }
+
+    /**
+     * Checks that the other operations of arrays work on slices (of arrays of objects and of numbers)
+     * the same way they work on arrays of the same elements.
+     */
+    @Test
+    void operationsWorkOnSlices() {
+        EOObject[] strings = new EOObject[100];
+        EOObject[] ints = new EOObject[100];
+        for (int i = 0; i < 100; i++) {
+            strings[i] = new EOstring(String.valueOf(i));
+            ints[i] = new EOint(i);
+        }
+        for (EOObject[] elements : new EOObject[][]{strings, ints}) {
+            EOarray array = new EOarray(elements);
+            // a large slice views the array, a small one copies the elements, both must behave the same way
+            for (int[] range : new int[][]{{10, 90}, {40, 50}}) {
+                EOarray slice = array.EOslice(new EOint(range[0]), new EOint(range[1]));
+                EOarray copy = new EOarray(Arrays.copyOfRange(elements, range[0], range[1]));
+                int length = range[1] - range[0];
+                MatcherAssert.assertThat(slice, is(copy));
+                MatcherAssert.assertThat(slice.hashCode(), is(copy.hashCode()));
+                MatcherAssert.assertThat(slice.toString(), is(copy.toString()));
+                MatcherAssert.assertThat(slice.EOlength()._getLong(), is((long) length));
+                MatcherAssert.assertThat(slice.EOget(new EOint(0)), is(elements[range[0]]));
+                MatcherAssert.assertThat(slice.EOreverse(), is(copy.EOreverse()));
+                MatcherAssert.assertThat(slice.EOappend(elements[0]), is(copy.EOappend(elements[0])));
+                MatcherAssert.assertThat(slice.EOinsert(elements[1], new EOint(3)), is(copy.EOinsert(elements[1], new EOint(3))));
+                MatcherAssert.assertThat(slice.EOremove(new EOint(length - 1)), is(copy.EOremove(new EOint(length - 1))));
+                MatcherAssert.assertThat(slice.EOreplace(new EOint(2), elements[0]), is(copy.EOreplace(new EOint(2), elements[0])));
+                MatcherAssert.assertThat(slice.EOdrop(new EOint(5)).EOtake(new EOint(3)), is(copy.EOslice(new EOint(5), new EOint(8))));
+                MatcherAssert.assertThat(new EOarray().EOappendAll(slice), is(copy));
+                assertThrows(IndexOutOfBoundsException.class, () -> slice.EOget(new EOint(length)));
+            }
+        }
+    }
+
+    /**
+     * Checks that {@code EOpmap} and {@code EOpmapi} produce the same arrays as {@code EOmap} and {@code EOmapi}
+     * both for short arrays (mapped sequentially) and for long ones (mapped in parallel).
+     */
+    @Test
+    void EOpmapMatchesEOmap() throws Exception {
+        EOObject mapperObject = new EOObject() {
+            public EOObject EOmap(EOObject element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element._getAttribute("EOmul", element);
+                    }
+                };
+            }
+
+            public EOObject EOpmap(EOObject element) {
+                return EOmap(element);
+            }
+
+            public EOObject EOmapi(EOObject element, EOObject index) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return element._getAttribute("EOsub", index);
+                    }
+                };
+            }
+
+            public EOObject EOpmapi(EOObject element, EOObject index) {
+                return EOmapi(element, index);
+            }
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int length : new int[]{0, 1, 10, 5000}) {
+                EOObject[] elements = new EOObject[length];
+                for (int i = 0; i < length; i++) {
+                    elements[i] = new EOint(i * 7 % 13);
+                }
+                EOarray array = new EOarray(elements);
+                MatcherAssert.assertThat(array.EOpmap(mapperObject), is(array.EOmap(mapperObject)));
+                MatcherAssert.assertThat(array.EOpmapi(mapperObject), is(array.EOmapi(mapperObject)));
+                MatcherAssert.assertThat(pool.submit(() -> array.EOpmap(mapperObject)).get(), is(array.EOmap(mapperObject)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Checks that {@code EOpmap} dataizes the pure mapped objects in advance, so that they are not dataized again.
+     */
+    @Test
+    void EOpmapDataizesPureObjectsInAdvance() {
+        AtomicInteger dataizations = new AtomicInteger();
+        EOObject mapperObject = new EOObject() {
+            public EOObject EOpmap(EOObject element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return new EOObject() {
+                            @Override
+                            protected boolean _isPure() {
+                                return true;
+                            }
+
+                            @Override
+                            protected EOObject _decoratee() {
+                                dataizations.incrementAndGet();
+                                return element._getAttribute("EOadd", EOint.of(1));
+                            }
+                        };
+                    }
+                };
+            }
+        };
+        EOObject[] elements = new EOObject[1000];
+        Arrays.fill(elements, new EOint(5));
+        EOarray mapped = new EOarray(elements).EOpmap(mapperObject);
+        MatcherAssert.assertThat(dataizations.get(), is(1000));
+        MatcherAssert.assertThat(mapped.EOget(new EOint(999))._getLong(), is(6L));
+        MatcherAssert.assertThat(dataizations.get(), is(1000));
+    }
+
+    /**
+     * Checks that {@code EOpreduce} reduces arrays of any length the same way {@code EOreduce} does
+     * (for associative reduction techniques).
+     */
+    @Test
+    void EOpreduceMatchesEOreduce() {
+        EOObject reducerObject = new EOObject() {
+            public EOObject EOreduce(EOObject subtotal, EOObject element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return subtotal._getAttribute("EOadd", element);
+                    }
+                };
+            }
+
+            public EOObject EOpreduce(EOObject subtotal, EOObject element) {
+                return EOreduce(subtotal, element);
+            }
+        };
+        for (int length : new int[]{0, 1, 10, 10000}) {
+            EOObject[] elements = new EOObject[length];
+            for (int i = 0; i < length; i++) {
+                elements[i] = new EOint(i);
+            }
+            EOarray array = new EOarray(elements);
+            MatcherAssert.assertThat(
+                    array.EOpreduce(EOint.of(0), reducerObject)._getLong(),
+                    is(array.EOreduce(EOint.of(0), reducerObject)._getLong())
+            );
+        }
+    }
+
+    /**
+     * Checks that {@code EOsort} and {@code EOparallelSort} sort arrays of numbers and texts in the natural order.
+     */
+    @Test
+    void EOsortOrdersElementsNaturally() {
+        EOarray ints = new EOarray(new EOint(3), new EOint(-1), new EOint(2), new EOint(-1));
+        EOarray sortedInts = new EOarray(new EOint(-1), new EOint(-1), new EOint(2), new EOint(3));
+        MatcherAssert.assertThat(ints.EOsort(), is(sortedInts));
+        MatcherAssert.assertThat(ints.EOparallelSort(), is(sortedInts));
+        MatcherAssert.assertThat(
+                new EOarray(new EOfloat(2.5), new EOfloat(-0.5), new EOfloat(1.0)).EOsort(),
+                is(new EOarray(new EOfloat(-0.5), new EOfloat(1.0), new EOfloat(2.5)))
+        );
+        EOarray strings = new EOarray(new EOstring("pear"), new EOstring("apple"), new EOstring("fig"));
+        MatcherAssert.assertThat(
+                strings.EOsort(),
+                is(new EOarray(new EOstring("apple"), new EOstring("fig"), new EOstring("pear")))
+        );
+        MatcherAssert.assertThat(strings.EOparallelSort(), is(strings.EOsort()));
+        // the elements are sorted by the data behind them, but the elements themselves are kept
+        EOObject two = new EOObject() {
+            @Override
+            protected EOObject _decoratee() {
+                return new EOint(2);
+            }
+        };
+        EOarray decorated = new EOarray(new EOstring("x"), two).EOremove(new EOint(0)).EOappend(new EOint(1));
+        MatcherAssert.assertThat(decorated.EOsort().EOget(new EOint(1)), sameInstance(two));
+        assertThrows(RuntimeException.class, () -> new EOarray(new EOint(1), new EOstring("x")).EOsort());
+    }
+
+    /**
+     * Checks that {@code EOsort} and {@code EOparallelSort} with a comparator sort arrays stably.
+     */
+    @Test
+    void EOsortWithComparatorIsStable() {
+        // compares the strings by their lengths (in the descending order)
+        EOObject comparator = new EOObject() {
+            public EOObject EOcomparator(EOObject a, EOObject indexA, EOObject b, EOObject indexB) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        long lengthA = a._getData().toString().length();
+                        long lengthB = b._getData().toString().length();
+                        return new EOint(Long.compare(lengthB, lengthA));
+                    }
+                };
+            }
+        };
+        EOObject[] elements = new EOObject[1000];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = new EOstring("x".repeat(i % 7) + i);
+        }
+        EOarray sorted = new EOarray(elements).EOsort(comparator);
+        for (int i = 1; i < elements.length; i++) {
+            String previous = sorted.EOget(new EOint(i - 1))._getData().toString();
+            String current = sorted.EOget(new EOint(i))._getData().toString();
+            MatcherAssert.assertThat(previous.length() >= current.length(), is(true));
+            if (previous.length() == current.length()) {
+                MatcherAssert.assertThat(
+                        Integer.parseInt(previous.replace("x", "")) < Integer.parseInt(current.replace("x", "")),
+                        is(true)
+                );
+            }
+        }
+        MatcherAssert.assertThat(new EOarray(elements).EOparallelSort(comparator), is(sorted));
+        MatcherAssert.assertThat(
+                new EOarray(new EOint(1), new EOint(3), new EOint(2)).EOsort(intComparatorObject),
+                is(new EOarray(new EOint(1), new EOint(2), new EOint(3)))
+        );
+    }
+
+    /**
+     * Checks that {@code EObinarySearch} finds elements of sorted arrays (and slices of them)
+     * and reports the insertion points of the missing ones.
+     */
+    @Test
+    void EObinarySearchFindsElements() {
+        EOarray ints = new EOarray(new EOint(0), new EOint(10), new EOint(20), new EOint(30), new EOint(40));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(30))._getLong(), is(3L));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(25))._getLong(), is(-4L));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(30), intComparatorObject)._getLong(), is(3L));
+        MatcherAssert.assertThat(ints.EObinarySearch(new EOint(-5), intComparatorObject)._getLong(), is(-1L));
+        EOarray slice = ints.EOslice(new EOint(1), new EOint(4));
+        MatcherAssert.assertThat(slice.EObinarySearch(new EOint(20))._getLong(), is(1L));
+        MatcherAssert.assertThat(slice.EObinarySearch(new EOint(45))._getLong(), is(-4L));
+        MatcherAssert.assertThat(slice.EObinarySearch(new EOint(5))._getLong(), is(-1L));
+        EOarray floats = new EOarray(new EOfloat(0.5), new EOfloat(1.5));
+        MatcherAssert.assertThat(floats.EObinarySearch(new EOfloat(1.5))._getLong(), is(1L));
+        EOarray strings = new EOarray(new EOstring("a"), new EOstring("c"), new EOstring("e"));
+        MatcherAssert.assertThat(strings.EObinarySearch(new EOstring("e"))._getLong(), is(2L));
+        MatcherAssert.assertThat(strings.EObinarySearch(new EOstring("d"))._getLong(), is(-3L));
+        MatcherAssert.assertThat(new EOarray().EObinarySearch(new EOint(1))._getLong(), is(-1L));
+    }
+
+    /**
+     * Checks that {@code EObinarySearch} fails for keys whose data cannot be compared with the data of the elements
+     * (rather than reading the keys as numbers of the type of the elements).
+     */
+    @Test
+    void EObinarySearchFailsForKeysOfOtherTypes() {
+        EOarray floats = new EOarray(new EOfloat(-1.0), new EOfloat(0.0), new EOfloat(2.0));
+        assertThrows(RuntimeException.class, () -> floats.EObinarySearch(new EOint(2)));
+        EOarray ints = new EOarray(new EOint(-1), new EOint(0), new EOint(2));
+        assertThrows(RuntimeException.class, () -> ints.EObinarySearch(new EOstring("2")));
+        assertThrows(RuntimeException.class, () -> ints.EObinarySearch(new EOfloat(2.0)));
+        assertThrows(RuntimeException.class, () -> ints.EOslice(new EOint(1), new EOint(3)).EObinarySearch(new EObool(true)));
+    }
+
+    /**
+     * Checks that {@code EOindexOf}, {@code EOcontains} and {@code EOcount} find the elements equal to the key
+     * in arrays of numbers, strings and objects with their own {@code eq} attributes.
+     */
+    @Test
+    void searchOperationsCompareElementsWithKeys() {
+        EOarray ints = new EOarray(new EOint(5), new EOint(7), new EOint(5), new EOint(9));
+        MatcherAssert.assertThat(ints.EOindexOf(new EOint(5))._getLong(), is(0L));
+        MatcherAssert.assertThat(ints.EOindexOf(new EOint(9))._getLong(), is(3L));
+        MatcherAssert.assertThat(ints.EOindexOf(new EOint(6))._getLong(), is(-1L));
+        MatcherAssert.assertThat(ints.EOcount(new EOint(5))._getLong(), is(2L));
+        MatcherAssert.assertThat(ints.EOcontains(new EOint(7))._getData().asBoolean(), is(true));
+        MatcherAssert.assertThat(ints.EOcontains(new EOint(8))._getData().asBoolean(), is(false));
+        EOarray slice = ints.EOslice(new EOint(1), new EOint(3));
+        MatcherAssert.assertThat(slice.EOindexOf(new EOint(5))._getLong(), is(1L));
+        MatcherAssert.assertThat(slice.EOcount(new EOint(9))._getLong(), is(0L));
+        EOarray floats = new EOarray(new EOfloat(0.5), new EOfloat(Double.NaN), new EOfloat(0.5));
+        MatcherAssert.assertThat(floats.EOcount(new EOfloat(0.5))._getLong(), is(2L));
+        MatcherAssert.assertThat(floats.EOindexOf(new EOfloat(Double.NaN))._getLong(), is(-1L));
+        EOarray strings = new EOarray(new EOstring("a"), new EOstring("b"), new EOstring("a"));
+        MatcherAssert.assertThat(strings.EOindexOf(new EOstring("b"))._getLong(), is(1L));
+        MatcherAssert.assertThat(strings.EOcount(new EOstring("a"))._getLong(), is(2L));
+        EOarray objects = new EOarray(new Residue(13), new Residue(21), new Residue(3));
+        MatcherAssert.assertThat(objects.EOindexOf(new Residue(1))._getLong(), is(1L));
+        MatcherAssert.assertThat(objects.EOcount(new Residue(23))._getLong(), is(2L));
+        MatcherAssert.assertThat(objects.EOcontains(new Residue(4))._getData().asBoolean(), is(false));
+        MatcherAssert.assertThat(new EOarray().EOcontains(new EOint(1))._getData().asBoolean(), is(false));
+    }
+
+    /**
+     * Checks that {@code EOdistinct}, {@code EOunion} and {@code EOintersect} keep the first occurrences
+     * of the elements in order, whether the elements are compared by hashing or by their {@code eq} attributes.
+     */
+    @Test
+    void setOperationsKeepFirstOccurrencesInOrder() {
+        EOarray ints = new EOarray(new EOint(3), new EOint(1), new EOint(3), new EOint(2), new EOint(1));
+        MatcherAssert.assertThat(ints.EOdistinct(), is(new EOarray(new EOint(3), new EOint(1), new EOint(2))));
+        MatcherAssert.assertThat(
+                ints.EOunion(new EOarray(new EOint(4), new EOint(2), new EOint(5))),
+                is(new EOarray(new EOint(3), new EOint(1), new EOint(2), new EOint(4), new EOint(5)))
+        );
+        MatcherAssert.assertThat(
+                ints.EOintersect(new EOarray(new EOint(2), new EOint(3), new EOint(7))),
+                is(new EOarray(new EOint(3), new EOint(2)))
+        );
+        EOarray strings = new EOarray(new EOstring("a"), new EOstring("b"), new EOstring("a"), new EOstring("c"));
+        MatcherAssert.assertThat(
+                strings.EOdistinct(),
+                is(new EOarray(new EOstring("a"), new EOstring("b"), new EOstring("c")))
+        );
+        MatcherAssert.assertThat(
+                strings.EOintersect(new EOarray(new EOstring("c"), new EOstring("a"))),
+                is(new EOarray(new EOstring("a"), new EOstring("c")))
+        );
+        EOarray floats = new EOarray(new EOfloat(0.0), new EOfloat(-0.0), new EOfloat(Double.NaN), new EOfloat(Double.NaN));
+        MatcherAssert.assertThat(floats.EOdistinct().EOlength()._getLong(), is(3L));
+        EOarray objects = new EOarray(new Residue(13), new Residue(21), new Residue(3), new Residue(11));
+        MatcherAssert.assertThat(objects.EOdistinct().EOlength()._getLong(), is(2L));
+        MatcherAssert.assertThat(objects.EOdistinct().EOget(new EOint(1))._getLong(), is(21L));
+        MatcherAssert.assertThat(
+                objects.EOunion(new EOarray(new Residue(5), new Residue(33))).EOlength()._getLong(),
+                is(3L)
+        );
+        MatcherAssert.assertThat(
+                objects.EOintersect(new EOarray(new Residue(1))).EOget(new EOint(0))._getLong(),
+                is(21L)
+        );
+        EOObject[] many = new EOObject[10000];
+        for (int i = 0; i < many.length; i++) {
+            many[i] = new EOstring(String.valueOf(i % 100));
+        }
+        MatcherAssert.assertThat(new EOarray(many).EOdistinct().EOlength()._getLong(), is(100L));
+    }
+
+    /**
+     * Checks that {@code EOfilter} keeps the elements satisfying the predicate in order.
+     */
+    @Test
+    void EOfilterKeepsElementsSatisfyingPredicate() {
+        EOObject odd = new EOObject() {
+            public EOObject EOfilter(EOObject element) {
+                return new EOObject() {
+                    @Override
+                    protected EOObject _decoratee() {
+                        return EObool.of(element._getLong() % 2 != 0);
+                    }
+                };
+            }
+        };
+        EOarray ints = new EOarray(new EOint(1), new EOint(2), new EOint(3), new EOint(4), new EOint(5));
+        MatcherAssert.assertThat(ints.EOfilter(odd), is(new EOarray(new EOint(1), new EOint(3), new EOint(5))));
+        MatcherAssert.assertThat(new EOarray().EOfilter(odd), is(new EOarray()));
+    }
+
+    /**
+     * An object that is equal to the numbers with the same remainder of division by 10.
+     */
+    private static final class Residue extends EOObject {
+        private final long value;
+
+        private Residue(long value) {
+            this.value = value;
+        }
+
+        @Override
+        public EOData _getData() {
+            return new EOIntData(value);
+        }
+
+        public EObool EOeq(EOObject other) {
+            return EObool.of(value % 10 == other._getLong() % 10);
+        }
+    }
 }
 
 class StdoutMockingUtils {
@@ -23,6 +23,17 @@ class EOboolTest {
         );
     }
 
+    /***
+     * Test for {@code of}
+     * checks if booleans are represented by two shared objects
+     */
+    @Test
+    void of() {
+        MatcherAssert.assertThat(EObool.of(true), Matchers.sameInstance(new EObool(false).EOnot()));
+        MatcherAssert.assertThat(EObool.of(false), Matchers.sameInstance(new EObool(true).EOnot()));
+        MatcherAssert.assertThat(EObool.of(true)._getData().toBoolean(), Matchers.equalTo(true));
+    }
+
     /***
      * Test for {@code EOif)}
      * checks if the right/wrong object is returned based on the base bool/condition
@@ -25,6 +25,18 @@ class EOintTest {
         MatcherAssert.assertThat(left._getData().toInt(), Matchers.equalTo(12L));
     }
 
+    /***
+     * Test for {@code of}
+     * checks if small integers are represented by shared objects and others by new ones
+     */
+    @Test
+    void of() {
+        MatcherAssert.assertThat(EOint.of(-1L), Matchers.sameInstance(EOint.of(-1L)));
+        MatcherAssert.assertThat(EOint.of(1024L), Matchers.sameInstance(new EOint(1000L).EOadd(new EOint(24L))));
+        MatcherAssert.assertThat(EOint.of(1L << 40), Matchers.not(Matchers.sameInstance(EOint.of(1L << 40))));
+        MatcherAssert.assertThat(EOint.of(1L << 40)._getData().toInt(), Matchers.equalTo(1L << 40));
+    }
+
     /***
      * Test for {@code EOadd}
      * checks if addition is successful
@@ -114,6 +126,22 @@ class EOintTest {
         );
     }
 
+    /***
+     * Test for {@code EOeq}
+     * checks that objects that cannot be dataized (an array, an abstraction) are not equal to ints
+     */
+    @Test
+    void EOeqWithObjectsWithoutData() {
+        MatcherAssert.assertThat(
+                EOint.of(1).EOeq(new EOarray())._getData().toBoolean(),
+                Matchers.equalTo(false)
+        );
+        MatcherAssert.assertThat(
+                EOint.of(0).EOeq(new EOObject() { })._getData().toBoolean(),
+                Matchers.equalTo(false)
+        );
+    }
+
     /***
      * Test for {@code EOneq}
      * checks equality (!=)
@@ -0,0 +1,82 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOmap}.
+ */
+class EOmapTest {
+
+    /**
+     * Checks that keys are compared by the data behind them and that {@code put} and {@code remove}
+     * do not change the original map.
+     */
+    @Test
+    void mapsBindKeysByData() {
+        EOObject one = new EOstring("one");
+        EOmap map = new EOmap().EOput(EOint.of(1), one).EOput(new EOstring("1"), EOint.of(1));
+        EOObject dataizedToOne = new EOObject() {
+            @Override
+            protected EOObject _decoratee() {
+                return EOint.of(1);
+            }
+        };
+        MatcherAssert.assertThat(map.EOget(dataizedToOne), sameInstance(one));
+        MatcherAssert.assertThat(map.EOget(new EOstring("1"))._getLong(), is(1L));
+        MatcherAssert.assertThat(map.EOsize()._getLong(), is(2L));
+        MatcherAssert.assertThat(map.EOhas(new EOfloat(1.0))._getData().asBoolean(), is(false));
+        MatcherAssert.assertThat(map.EOget(EOint.of(2), EOint.of(0))._getLong(), is(0L));
+        assertThrows(NoSuchElementException.class, () -> map.EOget(EOint.of(2)));
+        EOmap replaced = map.EOput(EOint.of(1), EOint.of(100));
+        MatcherAssert.assertThat(replaced.EOget(EOint.of(1))._getLong(), is(100L));
+        MatcherAssert.assertThat(map.EOget(EOint.of(1)), sameInstance(one));
+        EOmap removed = map.EOremove(EOint.of(1));
+        MatcherAssert.assertThat(removed.EOhas(EOint.of(1))._getData().asBoolean(), is(false));
+        MatcherAssert.assertThat(removed.EOsize()._getLong(), is(1L));
+        MatcherAssert.assertThat(map.EOhas(EOint.of(1))._getData().asBoolean(), is(true));
+        MatcherAssert.assertThat(map.EOremove(EOint.of(5)), sameInstance(map));
+    }
+
+    /**
+     * Checks that the maps built from arrays of tuples keep the last values of the repeated keys
+     * and retrieve keys and values in the same order.
+     */
+    @Test
+    void mapsAreBuiltFromArraysOfTuples() {
+        EOObject[] entries = new EOObject[1000];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new EOtuple(new EOstring("k" + i % 500), EOint.of(i));
+        }
+        EOmap map = new EOmap(new EOarray(entries));
+        MatcherAssert.assertThat(map.EOsize()._getLong(), is(500L));
+        MatcherAssert.assertThat(map.EOget(new EOstring("k7"))._getLong(), is(507L));
+        EOarray keys = map.EOkeys();
+        EOarray values = map.EOvalues();
+        MatcherAssert.assertThat(keys.EOlength()._getLong(), is(500L));
+        for (int i = 0; i < 500; i++) {
+            String key = keys.EOget(EOint.of(i))._getData().toString();
+            MatcherAssert.assertThat(
+                    values.EOget(EOint.of(i))._getLong(),
+                    is(Long.parseLong(key.substring(1)) + 500)
+            );
+        }
+        EOmap put = new EOmap();
+        for (int i = 0; i < entries.length; i++) {
+            put = put.EOput(new EOstring("k" + i % 500), entries[i]._getAttribute("EOsnd"));
+        }
+        MatcherAssert.assertThat(map, is(put));
+        MatcherAssert.assertThat(new EOmap(new EOarray()), is(new EOmap()));
+        MatcherAssert.assertThat(
+                new EOmap(new EOarray(new EOtuple(EOint.of(3), new EOstring("x")))).EOkeys(),
+                is(new EOarray(EOint.of(3)))
+        );
+    }
+}
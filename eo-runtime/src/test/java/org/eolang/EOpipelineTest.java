@@ -0,0 +1,123 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOpipeline}.
+ */
+class EOpipelineTest {
+
+    /**
+     * Counts the applications of the stages.
+     */
+    private final AtomicInteger applications = new AtomicInteger();
+
+    /**
+     * Doubles integers.
+     */
+    private final EOObject doubling = new EOObject() {
+        public EOObject EOmap(EOObject element) {
+            applications.incrementAndGet();
+            return new EOObject() {
+                @Override
+                protected EOObject _decoratee() {
+                    return element._getAttribute("EOmul", EOint.of(2));
+                }
+            };
+        }
+    };
+
+    /**
+     * Keeps integers divisible by 3.
+     */
+    private final EOObject divisibleBy3 = new EOObject() {
+        public EOObject EOfilter(EOObject element) {
+            applications.incrementAndGet();
+            return new EOObject() {
+                @Override
+                protected EOObject _decoratee() {
+                    return EObool.of(element._getLong() % 3 == 0);
+                }
+            };
+        }
+    };
+
+    /**
+     * Sums up integers.
+     */
+    private final EOObject summing = new EOObject() {
+        public EOObject EOreduce(EOObject subtotal, EOObject element) {
+            return new EOObject() {
+                @Override
+                protected EOObject _decoratee() {
+                    return subtotal._getAttribute("EOadd", element);
+                }
+            };
+        }
+    };
+
+    /**
+     * Checks that a pipeline produces the same elements as the chain of the strict operations of arrays would,
+     * and that its stages are not performed until the elements are needed.
+     */
+    @Test
+    void pipelineProducesElementsOfFusedStages() {
+        EOarray array = range(10);
+        EOpipeline pipeline = array.EOlazy().EOmap(doubling).EOfilter(divisibleBy3).EOmap(doubling);
+        MatcherAssert.assertThat(applications.get(), is(0));
+        MatcherAssert.assertThat(
+                pipeline.EOtoArray(),
+                is(new EOarray(EOint.of(0), EOint.of(12), EOint.of(24), EOint.of(36)))
+        );
+        // every element goes through the first map and the filter, the kept ones go through the second map
+        MatcherAssert.assertThat(applications.get(), is(10 + 10 + 4));
+        MatcherAssert.assertThat(pipeline.EOtoArray(), sameInstance(pipeline.EOtoArray()));
+        MatcherAssert.assertThat(pipeline.EOlength()._getLong(), is(4L));
+        MatcherAssert.assertThat(pipeline.EOget(EOint.of(2))._getLong(), is(24L));
+        MatcherAssert.assertThat(applications.get(), is(10 + 10 + 4));
+        MatcherAssert.assertThat(pipeline.EOreduce(EOint.of(0), summing)._getLong(), is(72L));
+        assertThrows(IndexOutOfBoundsException.class, () -> pipeline.EOget(EOint.of(4)));
+    }
+
+    /**
+     * Checks that pipelines without filters compute their length without performing the stages
+     * and perform the stages only over the retrieved elements.
+     */
+    @Test
+    void pipelineWithoutFiltersPerformsStagesOnDemand() {
+        EOpipeline pipeline = range(1000).EOlazy().EOmap(doubling).EOmap(doubling);
+        MatcherAssert.assertThat(pipeline.EOlength()._getLong(), is(1000L));
+        MatcherAssert.assertThat(pipeline.EOget(EOint.of(10))._getLong(), is(40L));
+        MatcherAssert.assertThat(applications.get(), is(2));
+        MatcherAssert.assertThat(pipeline.EOreduce(EOint.of(0), summing)._getLong(), is(4L * 999 * 1000 / 2));
+    }
+
+    /**
+     * Checks that adding a stage does not change the original pipeline.
+     */
+    @Test
+    void pipelinesAreImmutable() {
+        EOpipeline mapped = range(6).EOlazy().EOmap(doubling);
+        EOpipeline filtered = mapped.EOfilter(divisibleBy3);
+        MatcherAssert.assertThat(mapped.EOlength()._getLong(), is(6L));
+        MatcherAssert.assertThat(filtered.EOtoArray(), is(new EOarray(EOint.of(0), EOint.of(6))));
+        MatcherAssert.assertThat(mapped.EOtoArray(), is(range(6).EOmap(doubling)));
+        MatcherAssert.assertThat(new EOarray().EOlazy().EOfilter(divisibleBy3).EOtoArray(), is(new EOarray()));
+    }
+
+    private static EOarray range(int length) {
+        EOObject[] elements = new EOObject[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = EOint.of(i);
+        }
+        return new EOarray(elements);
+    }
+}
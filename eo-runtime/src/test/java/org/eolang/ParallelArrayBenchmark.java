@@ -0,0 +1,170 @@
+package org.eolang;
+
+import org.eolang.core.EOObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the parallel operations of arrays ({@link EOarray#EOpmap}, {@link EOarray#EOpreduce})
+ * with the sequential ones ({@link EOarray#EOmap}, {@link EOarray#EOreduce}) on fork/join pools of 1 to 32 threads.
+ * The mapped objects are pure and take a few microseconds to dataize, as CPU-heavy mappers do
+ * (the reductions add up such objects, so the work is done while the sums are dataized).
+ * <p>
+ * Run it from the eo-runtime directory with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-cp %classpath org.openjdk.jmh.Main ParallelArray"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelArrayBenchmark {
+
+    /**
+     * The number of threads of the pool the parallel operations run on.
+     */
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    /**
+     * The number of elements of the array.
+     */
+    @Param({"2000"})
+    private int length;
+
+    private ForkJoinPool pool;
+
+    private EOarray array;
+
+    /**
+     * A mapper whose mapped objects sum up the squares of the numbers up to the element
+     * and a reducer that adds up the mapped objects.
+     */
+    private final EOObject mapper = new EOObject() {
+        public EOObject EOmap(EOObject element) {
+            return new Square(element);
+        }
+
+        public EOObject EOpmap(EOObject element) {
+            return new Square(element);
+        }
+
+        public EOObject EOreduce(EOObject subtotal, EOObject element) {
+            return new Sum(subtotal, element);
+        }
+
+        public EOObject EOpreduce(EOObject subtotal, EOObject element) {
+            return new Sum(subtotal, element);
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        EOObject[] elements = new EOObject[length];
+        for (int i = 0; i < length; i++) {
+            elements[i] = EOint.of(1000 + i % 1000);
+        }
+        array = new EOarray(elements);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long mapSequential() {
+        return dataizeAll(array.EOmap(mapper));
+    }
+
+    @Benchmark
+    public long mapParallel() throws ExecutionException, InterruptedException {
+        return dataizeAll(pool.submit(() -> array.EOpmap(mapper)).get());
+    }
+
+    @Benchmark
+    public long reduceSequential() {
+        return array.EOmap(mapper).EOreduce(EOint.of(0), mapper)._getLong();
+    }
+
+    @Benchmark
+    public long reduceParallel() throws ExecutionException, InterruptedException {
+        return pool.submit(() -> array.EOmap(mapper).EOpreduce(EOint.of(0), mapper)).get()._getLong();
+    }
+
+    /**
+     * Dataizes all the elements of the {@code mapped} array.
+     */
+    private static long dataizeAll(EOarray mapped) {
+        long sum = 0;
+        for (int i = 0; i < mapped.EOlength()._getLong(); i++) {
+            sum += mapped.EOget(EOint.of(i))._getLong();
+        }
+        return sum;
+    }
+
+    /**
+     * A pure object that sums up the squares of the numbers from 1 to the number behind the {@code element}.
+     */
+    private static final class Square extends EOObject {
+        private final EOObject element;
+
+        private Square(EOObject element) {
+            this.element = element;
+        }
+
+        @Override
+        protected boolean _isPure() {
+            return true;
+        }
+
+        @Override
+        protected EOObject _decoratee() {
+            EOObject sum = EOint.of(0);
+            for (long i = element._getLong(); i > 0; i--) {
+                sum = ((EOint) sum).EOadd(EOint.of(i).EOmul(EOint.of(i)));
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * A pure object that adds up two numbers.
+     */
+    private static final class Sum extends EOObject {
+        private final EOObject left;
+        private final EOObject right;
+
+        private Sum(EOObject left, EOObject right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        protected boolean _isPure() {
+            return true;
+        }
+
+        @Override
+        protected EOObject _decoratee() {
+            return EOint.of(left._getLong() + right._getLong());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the attribute access through {@link EOObject#_getAttribute} (backed by {@link EODispatchTable})
+ * and through inline-caching {@link EOCallSite}s with the reflective scanning of the methods of the class that was used before the dispatch tables.
+ * <p>
+ * Run it from the eo-runtime directory with:
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * "-Dexec.args=-cp %classpath org.openjdk.jmh.Main AttributeDispatch"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeDispatchBenchmark {
+
+    /**
+     * Inline-caching call sites (as kept by generated classes).
+     */
+    private static final MethodHandle DIRECT_SITE = EOCallSite.attribute("EOadd");
+    private static final MethodHandle DECORATED_SITE = EOCallSite.attribute("EOadd");
+
+    /**
+     * An integer whose attribute is accessed directly.
+     */
+    private final EOObject number = new EOint(40);
+
+    /**
+     * An object that reaches the integer through two decoration levels.
+     */
+    private final EOObject decorated = new Decorator(new Decorator(number));
+
+    /**
+     * The argument passed to the accessed attribute.
+     */
+    private final EOObject argument = new EOint(2);
+
+    @Benchmark
+    public EOObject dispatchTableDirect() {
+        return number._getAttribute("EOadd", argument);
+    }
+
+    @Benchmark
+    public EOObject callSiteDirect() {
+        return EOCallSite.invoke(DIRECT_SITE, number, argument);
+    }
+
+    @Benchmark
+    public EOObject reflectiveScanDirect() {
+        return reflectiveGetAttribute(number, "EOadd", argument);
+    }
+
+    @Benchmark
+    public EOObject dispatchTableDecorated() {
+        return decorated._getAttribute("EOadd", argument);
+    }
+
+    @Benchmark
+    public EOObject callSiteDecorated() {
+        return EOCallSite.invoke(DECORATED_SITE, decorated, argument);
+    }
+
+    @Benchmark
+    public EOObject reflectiveScanDecorated() {
+        return reflectiveGetAttribute(decorated, "EOadd", argument);
+    }
+
+    /**
+     * The attribute access as it was implemented before the dispatch tables.
+     */
+    private static EOObject reflectiveGetAttribute(EOObject self, String name, EOObject... arguments) {
+        try {
+            Method method = Arrays.stream(self.getClass().getMethods()).filter(mthd -> mthd.getName().equals(name)).findFirst().get();
+            Parameter[] methodParams = method.getParameters();
+            method.setAccessible(true);
+            return (EOObject) method.invoke(self, prepareFreeAtt(methodParams, arguments));
+        } catch (Exception e) {
+            if (self._decoratee() != null && self._decoratee() != self) {
+                return reflectiveGetAttribute(self._decoratee(), name, arguments);
+            } else {
+                throw new RuntimeException(String.format("Can't access the %s attribute of the %s object", name, self.getClass().getTypeName()));
+            }
+        }
+    }
+
+    private static Object[] prepareFreeAtt(Parameter[] methodParams, EOObject... arguments) {
+        List<Object> methodValues = new ArrayList<>();
+        for (int i = 0; i < methodParams.length; i++) {
+            if (methodParams[i].getType().getCanonicalName().endsWith("[]")) {
+                List<EOObject> objs = Arrays.stream(arguments).skip(i).collect(Collectors.toList());
+                methodValues.add(objs.toArray(new EOObject[0]));
+                break;
+            } else {
+                methodValues.add(arguments[i]);
+            }
+        }
+        return methodValues.toArray();
+    }
+
+    /**
+     * An object that only decorates another object (like most of the user-defined objects do).
+     */
+    private static final class Decorator extends EOObject {
+        private final EOObject decoratee;
+
+        private Decorator(EOObject decoratee) {
+            this.decoratee = decoratee;
+        }
+
+        @Override
+        protected EOObject _decoratee() {
+            return decoratee;
+        }
+    }
+}
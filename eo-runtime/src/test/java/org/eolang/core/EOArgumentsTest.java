@@ -0,0 +1,36 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * Test cases for {@link EOArguments}.
+ */
+class EOArgumentsTest {
+
+    /**
+     * Checks that arguments of fixed-arity methods are passed as they are.
+     */
+    @Test
+    void spreadKeepsFixedArityArguments() {
+        EOObject[] arguments = {new EOint(1), new EOint(2)};
+        Object[] prepared = EOArguments.spread(new Class<?>[]{EOObject.class, EOObject.class}, arguments);
+        MatcherAssert.assertThat(prepared, sameInstance(arguments));
+    }
+
+    /**
+     * Checks that the variable-length tail of arguments is passed as a single array.
+     */
+    @Test
+    void spreadCollectsVariableLengthTail() {
+        EOObject[] arguments = {new EOint(1), new EOint(2), new EOint(3)};
+        Object[] prepared = EOArguments.spread(new Class<?>[]{EOObject.class, EOObject[].class}, arguments);
+        MatcherAssert.assertThat(prepared.length, is(2));
+        MatcherAssert.assertThat(prepared[0], is(new EOint(1)));
+        MatcherAssert.assertThat((EOObject[]) prepared[1], is(new EOObject[]{new EOint(2), new EOint(3)}));
+    }
+}
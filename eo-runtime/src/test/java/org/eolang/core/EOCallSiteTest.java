@@ -0,0 +1,101 @@
+package org.eolang.core;
+
+import org.eolang.EOfloat;
+import org.eolang.EOint;
+import org.eolang.EOstring;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOCallSite}.
+ */
+class EOCallSiteTest {
+
+    /**
+     * Checks that a call site accesses attributes declared by the classes of different receivers.
+     */
+    @Test
+    void invokeAccessesAttributesOfDifferentClasses() {
+        MethodHandle site = EOCallSite.attribute("EOadd");
+        MatcherAssert.assertThat(EOCallSite.invoke(site, new EOint(40), new EOint(2)), is(new EOint(42)));
+        MatcherAssert.assertThat(EOCallSite.invoke(site, new EOfloat(0.5), new EOfloat(2))._getData().toFloat(), is(2.5));
+        MatcherAssert.assertThat(EOCallSite.invoke(site, new EOint(1), new EOint(2)), is(new EOint(3)));
+    }
+
+    /**
+     * Checks that a call site passes the variable-length tail of the arguments as an array.
+     */
+    @Test
+    void invokePassesVariableLengthArguments() {
+        MethodHandle site = EOCallSite.attribute("EOappend");
+        EOObject appended = EOCallSite.invoke(site, new EOstring("a"), new EOstring("b"), new EOstring("c"));
+        MatcherAssert.assertThat(appended, is(new EOstring("abc")));
+    }
+
+    /**
+     * Checks that a call site unwraps thunks and looks up attributes in the decoration hierarchy.
+     */
+    @Test
+    void invokeUnwrapsThunksAndDecoratees() {
+        MethodHandle site = EOCallSite.attribute("EOadd");
+        EOObject thunk = new EOThunk(() -> new EOint(40));
+        MatcherAssert.assertThat(EOCallSite.invoke(site, thunk, new EOint(2)), is(new EOint(42)));
+        MatcherAssert.assertThat(EOCallSite.invoke(site, decorating(new EOint(40)), new EOint(2)), is(new EOint(42)));
+    }
+
+    /**
+     * Checks that a call site keeps working after it sees more receiver classes than it caches.
+     */
+    @Test
+    void invokeSurvivesMegamorphicCallSites() {
+        MethodHandle site = EOCallSite.attribute("EOadd");
+        EOObject receiver = new EOint(40);
+        for (int i = 0; i <= EOCallSite.MAX_DEPTH; i++) {
+            receiver = decorating(receiver);
+            MatcherAssert.assertThat(EOCallSite.invoke(site, receiver, new EOint(2)), is(new EOint(42)));
+        }
+    }
+
+    /**
+     * Checks that a call site fails when the receiver does not have the attribute.
+     */
+    @Test
+    void invokeFailsForMissingAttributes() {
+        MethodHandle site = EOCallSite.attribute("EOlength");
+        assertThrows(RuntimeException.class, () -> EOCallSite.invoke(site, decorating(new EOint(1))));
+    }
+
+    /**
+     * Checks that call sites linked by the bootstrap method accept arguments one by one.
+     */
+    @Test
+    void bootstrapLinksCallSitesWithSeparateArguments() throws Throwable {
+        CallSite site = EOCallSite.bootstrap(
+                MethodHandles.lookup(),
+                "EOadd",
+                MethodType.methodType(EOObject.class, EOObject.class, EOObject.class)
+        );
+        EOObject sum = (EOObject) site.dynamicInvoker().invokeExact((EOObject) new EOint(40), (EOObject) new EOint(2));
+        MatcherAssert.assertThat(sum, is(new EOint(42)));
+    }
+
+    /**
+     * Creates an object of a new (anonymous) class that decorates the {@code decoratee}.
+     */
+    private static EOObject decorating(EOObject decoratee) {
+        return new EOObject() {
+            @Override
+            protected EOObject _decoratee() {
+                return decoratee;
+            }
+        };
+    }
+}
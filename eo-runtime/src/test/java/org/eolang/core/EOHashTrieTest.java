@@ -0,0 +1,128 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOHashTrie}.
+ */
+class EOHashTrieTest {
+
+    /**
+     * Checks that random puts and removes (of keys with distinct and colliding hashes) keep the same keys
+     * and values as a {@link HashMap} does, and that they do not change the original maps.
+     */
+    @Test
+    void putAndRemoveMatchHashMap() {
+        Random random = new Random(42);
+        Map<Object, EOObject> expected = new HashMap<>();
+        EOHashTrie trie = EOHashTrie.EMPTY;
+        for (int step = 0; step < 20000; step++) {
+            Object key = random.nextBoolean() ? (Object) (long) random.nextInt(3000) : new Colliding(random.nextInt(40));
+            if (random.nextInt(3) == 0) {
+                EOHashTrie removed = trie.remove(key);
+                MatcherAssert.assertThat(trie.containsKey(key), is(expected.containsKey(key)));
+                expected.remove(key);
+                trie = removed;
+            } else {
+                EOObject value = EOint.of(step);
+                EOHashTrie previous = trie;
+                EOObject previousValue = previous.get(key);
+                trie = trie.put(key, value);
+                MatcherAssert.assertThat(previous.get(key), is(previousValue));
+                expected.put(key, value);
+            }
+            MatcherAssert.assertThat(trie.size(), is(expected.size()));
+        }
+        assertEntries(trie, expected);
+        for (Object key : expected.keySet()) {
+            trie = trie.remove(key);
+        }
+        MatcherAssert.assertThat(trie.isEmpty(), is(true));
+        MatcherAssert.assertThat(trie, is(EOHashTrie.EMPTY));
+    }
+
+    /**
+     * Checks that putting the value a key is already bound to and removing a missing key keep the map as is.
+     */
+    @Test
+    void unchangedMapsAreReused() {
+        EOObject value = EOint.of(1);
+        EOHashTrie trie = EOHashTrie.EMPTY.put("a", value).put(new Colliding(1), value).put(new Colliding(2), value);
+        MatcherAssert.assertThat(trie.put("a", value), sameInstance(trie));
+        MatcherAssert.assertThat(trie.remove("b"), sameInstance(trie));
+        MatcherAssert.assertThat(trie.remove(new Colliding(3)), sameInstance(trie));
+        MatcherAssert.assertThat(trie.get("b"), is(nullValue()));
+    }
+
+    /**
+     * Checks that the maps built at once are equal to the maps built by putting the keys one by one,
+     * and that builders cannot be used after the maps are built.
+     */
+    @Test
+    void builderMakesMapsEqualToPutOnes() {
+        for (int size : new int[]{0, 1, 32, 33, 1000, 40000}) {
+            EOHashTrie.Builder builder = new EOHashTrie.Builder();
+            EOHashTrie put = EOHashTrie.EMPTY;
+            Map<Object, EOObject> expected = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Object key = i % 5 == 0 ? new Colliding(i % 7) : (Object) ("key" + i % (size / 2 + 1));
+                EOObject value = EOint.of(i);
+                builder.put(key, value);
+                put = put.put(key, value);
+                expected.put(key, value);
+            }
+            EOHashTrie built = builder.build();
+            assertEntries(built, expected);
+            MatcherAssert.assertThat(built, is(put));
+            MatcherAssert.assertThat(built.hashCode(), is(put.hashCode()));
+            MatcherAssert.assertThat(built.hashCode(), is(expected.hashCode()));
+            // the built maps are persistent: changing them does not change the original
+            EOHashTrie changed = built.put("extra", EOint.of(-1));
+            MatcherAssert.assertThat(built.containsKey("extra"), is(false));
+            MatcherAssert.assertThat(changed.size(), is(expected.size() + 1));
+            assertThrows(IllegalStateException.class, () -> builder.put("late", EOint.of(0)));
+        }
+    }
+
+    private static void assertEntries(EOHashTrie trie, Map<Object, EOObject> expected) {
+        MatcherAssert.assertThat(trie.size(), is(expected.size()));
+        for (Map.Entry<Object, EOObject> entry : expected.entrySet()) {
+            MatcherAssert.assertThat(trie.get(entry.getKey()), sameInstance(entry.getValue()));
+        }
+        Map<Object, EOObject> visited = new HashMap<>();
+        trie.forEach(visited::put);
+        MatcherAssert.assertThat(visited, is(expected));
+    }
+
+    /**
+     * A key whose hash collides with the hashes of all the other such keys.
+     */
+    private static final class Colliding {
+        private final int id;
+
+        private Colliding(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Colliding && ((Colliding) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+}
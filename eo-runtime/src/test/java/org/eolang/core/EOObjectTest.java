@@ -0,0 +1,214 @@
+package org.eolang.core;
+
+import org.eolang.EOarray;
+import org.eolang.EOfloat;
+import org.eolang.EOint;
+import org.eolang.EOstring;
+import org.eolang.core.data.EOData;
+import org.eolang.core.data.EODataObject;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOObject}.
+ */
+class EOObjectTest {
+
+    /**
+     * Checks that {@code _getAttribute} instantiates attributes declared by the class of the object.
+     */
+    @Test
+    void _getAttributeFindsDeclaredAttributes() {
+        EOObject sum = new EOint(40)._getAttribute("EOadd", new EOint(2));
+        MatcherAssert.assertThat(sum, is(new EOint(42)));
+    }
+
+    /**
+     * Checks that {@code _getAttribute} looks up attributes in the decoration hierarchy.
+     */
+    @Test
+    void _getAttributeFallsBackToDecoratees() {
+        EOObject decorated = new EOObject() {
+            @Override
+            protected EOObject _decoratee() {
+                return new EOint(40);
+            }
+        };
+        EOObject sum = decorated._getAttribute("EOadd", new EOint(2));
+        MatcherAssert.assertThat(sum, is(new EOint(42)));
+    }
+
+    /**
+     * Checks that {@code _getAttribute} distinguishes overloaded attributes by the number of arguments
+     * and passes the variable-length tail of the arguments as an array.
+     */
+    @Test
+    void _getAttributeSelectsAttributesByArity() {
+        EOObject overloaded = new EOObject() {
+            public EOObject EOpick(EOObject first) {
+                return new EOstring("one");
+            }
+
+            public EOObject EOpick(EOObject first, EOObject second) {
+                return new EOstring("two");
+            }
+
+            public EOObject EOpick(EOObject first, EOObject second, EOObject... rest) {
+                return new EOarray(rest);
+            }
+        };
+        MatcherAssert.assertThat(overloaded._getAttribute("EOpick", new EOint(1)), is(new EOstring("one")));
+        MatcherAssert.assertThat(overloaded._getAttribute("EOpick", new EOint(1), new EOint(2)), is(new EOstring("two")));
+        MatcherAssert.assertThat(
+                overloaded._getAttribute("EOpick", new EOint(1), new EOint(2), new EOint(3), new EOint(4)),
+                is(new EOarray(new EOint(3), new EOint(4)))
+        );
+    }
+
+    /**
+     * Checks that {@code _getAttribute} fails when neither the object nor its decoratees have the attribute.
+     */
+    @Test
+    void _getAttributeFailsForMissingAttributes() {
+        assertThrows(RuntimeException.class, () -> new EOint(1)._getAttribute("EOlength"));
+        EOAttributeNotFound missing = assertThrows(
+                EOAttributeNotFound.class,
+                () -> new Layer(new EOThunk(() -> new EOint(1)), new int[1])._getAttribute("EOlength")
+        );
+        MatcherAssert.assertThat(missing.getAttribute(), is("EOlength"));
+        MatcherAssert.assertThat(missing.getPath(), is(List.of(Layer.class.getTypeName(), EOint.class.getTypeName())));
+        MatcherAssert.assertThat(missing.getStackTrace().length, is(0));
+    }
+
+    /**
+     * Checks that {@code _hasAttribute} looks up attributes in the decoration hierarchy without failing on misses,
+     * and records the misses.
+     */
+    @Test
+    void _hasAttributeReportsMissesWithoutFailing() {
+        int[] walks = new int[1];
+        EOObject layer = new Layer(new EOThunk(() -> new EOint(1)), walks);
+        MatcherAssert.assertThat(layer._hasAttribute("EOadd", 1), is(true));
+        MatcherAssert.assertThat(layer._hasAttribute("EOadd", 2), is(false));
+        MatcherAssert.assertThat(layer._hasAttribute("EOadd", 2), is(false));
+        MatcherAssert.assertThat(walks[0], is(2));
+        MatcherAssert.assertThat(new EOThunk(() -> layer)._hasAttribute("EOlength", 0), is(false));
+    }
+
+    /**
+     * Checks that {@code _getAttribute} walks the decoration chain once per attribute
+     * and records where the attribute was found in the objects on the way.
+     */
+    @Test
+    void _getAttributeRecordsOwnersOfAttributes() {
+        int[] walks = new int[1];
+        EOObject inner = new Layer(new EOint(40), walks);
+        EOObject outer = new Layer(new Layer(inner, walks), walks);
+        MatcherAssert.assertThat(outer._getAttribute("EOadd", new EOint(2)), is(new EOint(42)));
+        MatcherAssert.assertThat(outer._getAttribute("EOadd", new EOint(1)), is(new EOint(41)));
+        MatcherAssert.assertThat(walks[0], is(3));
+        MatcherAssert.assertThat(inner._getAttribute("EOsub", new EOint(1)), is(new EOint(39)));
+        MatcherAssert.assertThat(walks[0], is(4));
+    }
+
+    /**
+     * Checks that {@code _getData} walks the decoration chain once
+     * and records the data-bearing object in all the objects on the way.
+     */
+    @Test
+    void _getDataRecordsTerminalObjects() {
+        int[] walks = new int[1];
+        EOObject inner = new Layer(new EOint(42), walks);
+        EOObject outer = new Layer(new EOThunk(() -> new Layer(inner, walks)), walks);
+        MatcherAssert.assertThat(outer._getData().toInt(), is(42L));
+        MatcherAssert.assertThat(outer._getData().toInt(), is(42L));
+        MatcherAssert.assertThat(inner._getData().toInt(), is(42L));
+        MatcherAssert.assertThat(walks[0], is(3));
+    }
+
+    /**
+     * Checks that {@code _getData} walks decoration chains that are too deep for the thread stack.
+     */
+    @Test
+    void _getDataWalksDeepDecorationChains() {
+        EOObject chain = new EOint(7);
+        for (int i = 0; i < 1_000_000; i++) {
+            chain = new Layer(chain, new int[1]);
+        }
+        MatcherAssert.assertThat(chain._getData().toInt(), is(7L));
+    }
+
+    /**
+     * Checks that {@code _getData} memoizes the data behind pure objects and counts hits and misses.
+     */
+    @Test
+    void _getDataMemoizesPureObjects() {
+        int[] dataizations = new int[1];
+        EOObject source = new EOObject() {
+            @Override
+            public EOData _getData() {
+                dataizations[0]++;
+                return new EOData(42L);
+            }
+        };
+        EOObject pure = new Layer(source, new int[1]) {
+            @Override
+            protected boolean _isPure() {
+                return true;
+            }
+        };
+        EOObject impure = new Layer(source, new int[1]);
+        long hits = EODataCache.hits();
+        long misses = EODataCache.misses();
+        for (int i = 0; i < 3; i++) {
+            MatcherAssert.assertThat(pure._getData().toInt(), is(42L));
+            MatcherAssert.assertThat(impure._getData().toInt(), is(42L));
+        }
+        MatcherAssert.assertThat(dataizations[0], is(4));
+        MatcherAssert.assertThat(EODataCache.hits() - hits, is(2L));
+        MatcherAssert.assertThat(EODataCache.misses() - misses, is(1L));
+    }
+
+    /**
+     * Checks that {@code _getLong} and {@code _getDouble} read numbers through thunks and decoration chains
+     * the same way as {@code _getData} does.
+     */
+    @Test
+    void _getLongAndDoubleForwardThroughDecorationChains() {
+        int[] walks = new int[1];
+        EOObject integer = new Layer(new EOThunk(() -> new Layer(new EOint(42), walks)), walks);
+        EOObject fraction = new Layer(new EOThunk(() -> new EOfloat(0.5)), walks);
+        EOObject generic = new Layer(new EODataObject(7L), walks);
+        MatcherAssert.assertThat(integer._getLong(), is(42L));
+        MatcherAssert.assertThat(integer._getLong(), is(integer._getData().asLong()));
+        MatcherAssert.assertThat(integer._getDouble(), is(integer._getData().asDouble()));
+        MatcherAssert.assertThat(fraction._getDouble(), is(0.5));
+        MatcherAssert.assertThat(fraction._getLong(), is(fraction._getData().asLong()));
+        MatcherAssert.assertThat(generic._getLong(), is(7L));
+        MatcherAssert.assertThat(walks[0], is(4));
+    }
+
+    /**
+     * An object that decorates the given object and counts how many times its decoratee is requested.
+     */
+    private static class Layer extends EOObject {
+        private final EOObject decoratee;
+        private final int[] walks;
+
+        private Layer(EOObject decoratee, int[] walks) {
+            this.decoratee = decoratee;
+            this.walks = walks;
+        }
+
+        @Override
+        protected EOObject _decoratee() {
+            walks[0]++;
+            return decoratee;
+        }
+    }
+}
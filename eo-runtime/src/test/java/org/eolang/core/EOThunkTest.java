@@ -0,0 +1,79 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * Test cases for {@link EOThunk}.
+ */
+class EOThunkTest {
+
+    /**
+     * Checks that the wrapped object is instantiated only once when the thunk is forced sequentially.
+     */
+    @Test
+    void _getComputedInstantiatesWrappedObjectOnce() {
+        AtomicInteger instantiations = new AtomicInteger();
+        EOThunk thunk = new EOThunk(() -> {
+            instantiations.incrementAndGet();
+            return new EOint(1);
+        });
+        EOObject first = thunk._getComputed();
+        MatcherAssert.assertThat(thunk._getComputed(), sameInstance(first));
+        MatcherAssert.assertThat(thunk._getData().toInt(), is(1L));
+        MatcherAssert.assertThat(instantiations.get(), is(1));
+    }
+
+    /**
+     * Checks that all the threads racing to force the thunk get the same wrapped object.
+     */
+    @Test
+    void _getComputedPublishesSingleWinner() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 100; round++) {
+                EOThunk thunk = new EOThunk(() -> new EOint(1));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<EOObject>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return thunk._getComputed();
+                    }));
+                }
+                start.countDown();
+                EOObject winner = thunk._getComputed();
+                for (Future<EOObject> result : results) {
+                    MatcherAssert.assertThat(result.get(), sameInstance(winner));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks that chains of thunks are collapsed to the object at their end.
+     */
+    @Test
+    void _getComputedCollapsesChainsOfThunks() {
+        EOObject number = new EOint(1);
+        EOThunk thunk = new EOThunk(() -> new EOThunk(() -> new EOThunk(() -> number)));
+        MatcherAssert.assertThat(thunk._getComputed(), sameInstance(number));
+        MatcherAssert.assertThat(thunk._getComputed(), instanceOf(EOint.class));
+    }
+}
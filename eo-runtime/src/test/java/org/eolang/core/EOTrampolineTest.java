@@ -0,0 +1,170 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.eolang.core.data.EOData;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOTrampoline}.
+ */
+class EOTrampolineTest {
+
+    /**
+     * Checks that the engine dataizes decoration chains that are too deep for the thread stack.
+     */
+    @Test
+    void dataizeWalksDeepDecorationChains() {
+        EOObject countdown = new Countdown(1_000_000);
+        MatcherAssert.assertThat(EOTrampoline.dataize(countdown).toInt(), is(0L));
+    }
+
+    /**
+     * Checks that the engine fails for objects that have neither data, nor decoratees.
+     */
+    @Test
+    void dataizeFailsForObjectsWithoutData() {
+        EOObject empty = new EOObject() {
+        };
+        assertThrows(RuntimeException.class, () -> EOTrampoline.dataize(new EOThunk(() -> empty)));
+    }
+
+    /**
+     * Checks that shallow dataizations are performed on the calling thread,
+     * while nested dataizations deeper than a segment continue on other threads.
+     */
+    @Test
+    void dataizeSpreadsOnlyDeepNestedDataizationsOverSegments() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        MatcherAssert.assertThat(EOTrampoline.dataize(new Nested(10, threads)).toInt(), is(10L));
+        MatcherAssert.assertThat(threads, is(Set.of(Thread.currentThread())));
+        threads.clear();
+        MatcherAssert.assertThat(EOTrampoline.dataize(new Nested(100_000, threads)).toInt(), is(100_000L));
+        MatcherAssert.assertThat(threads.contains(Thread.currentThread()), is(true));
+        MatcherAssert.assertThat(threads.size() > 1, is(true));
+    }
+
+    /**
+     * Checks that the dataizations that get too deep for a thread are all continued on the same stack segment,
+     * rather than on a new thread each.
+     */
+    @Test
+    void dataizeReusesSegmentsAtTheBoundary() {
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        EOObject leaves = new EOObject() {
+            @Override
+            public EOData _getData() {
+                long sum = 0;
+                for (int i = 0; i < 2000; i++) {
+                    sum += EOTrampoline.dataize(new Nested(0, threads)).toInt();
+                }
+                return new EOData(sum);
+            }
+        };
+        MatcherAssert.assertThat(EOTrampoline.dataize(new Nested(EOTrampoline.CALLER_DEPTH - 2, leaves)).toInt(),
+                is((long) EOTrampoline.CALLER_DEPTH - 2));
+        MatcherAssert.assertThat(threads.size(), is(1));
+        MatcherAssert.assertThat(threads.contains(Thread.currentThread()), is(false));
+    }
+
+    /**
+     * Checks that failures of the dataizations continued on stack segments are propagated
+     * (checked exceptions are wrapped).
+     */
+    @Test
+    void dataizePropagatesFailuresOfSegments() {
+        Exception checked = new Exception("checked");
+        EOObject failing = new EOObject() {
+            @Override
+            public EOData _getData() {
+                return EOTrampolineTest.<RuntimeException>sneakyThrow(checked);
+            }
+        };
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> EOTrampoline.dataize(new Nested(EOTrampoline.CALLER_DEPTH + 1, failing)));
+        MatcherAssert.assertThat(e.getCause(), is(checked));
+    }
+
+    /**
+     * Checks that computations that are nested too deep for the thread stack
+     * (e.g., instantiations of objects forcing other thunks) are continued on stack segments.
+     */
+    @Test
+    void evaluateWalksDeepNestedComputations() {
+        MatcherAssert.assertThat(depth(100_000), is(100_000L));
+    }
+
+    private static long depth(long count) {
+        if (count == 0) {
+            return 0;
+        }
+        return EOTrampoline.evaluate(() -> depth(count - 1)) + 1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> EOData sneakyThrow(Throwable e) throws T {
+        throw (T) e;
+    }
+
+    /**
+     * An object that dataizes the object with a smaller count on its own (adding 1 to its data)
+     * until the count reaches zero, and records the threads it is dataized on.
+     */
+    private static final class Nested extends EOObject {
+        private final long count;
+        private final Set<Thread> threads;
+        private final EOObject innermost;
+
+        private Nested(long count, Set<Thread> threads) {
+            this(count, threads, null);
+        }
+
+        /**
+         * Instantiates the object that dataizes the {@code innermost} object once the count reaches zero.
+         */
+        private Nested(long count, EOObject innermost) {
+            this(count, ConcurrentHashMap.newKeySet(), innermost);
+        }
+
+        private Nested(long count, Set<Thread> threads, EOObject innermost) {
+            this.count = count;
+            this.threads = threads;
+            this.innermost = innermost;
+        }
+
+        @Override
+        public EOData _getData() {
+            threads.add(Thread.currentThread());
+            if (count == 0) {
+                return innermost == null ? new EOData(0L) : EOTrampoline.dataize(innermost);
+            }
+            return new EOData(EOTrampoline.dataize(new Nested(count - 1, threads, innermost)).toInt() + 1);
+        }
+    }
+
+    /**
+     * An object that decorates itself with a smaller count (each decoratee is wrapped into a thunk)
+     * until the count reaches zero.
+     */
+    private static final class Countdown extends EOObject {
+        private final long count;
+
+        private Countdown(long count) {
+            this.count = count;
+        }
+
+        @Override
+        protected EOObject _decoratee() {
+            if (count == 0) {
+                return new EOint(0);
+            }
+            return new EOThunk(() -> new EOThunk(() -> new Countdown(count - 1)));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.eolang.core;
+
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Test cases for {@link EOVector}.
+ */
+class EOVectorTest {
+
+    /**
+     * Sizes around the boundaries of the tail and of the levels of the trie.
+     */
+    private static final int[] SIZES = {0, 1, 31, 32, 33, 64, 65, 1024, 1055, 1056, 1057, 2000, 33 * 1024 + 1};
+
+    /**
+     * Checks that appended elements are retrieved in order (both by index and by iteration).
+     */
+    @Test
+    void appendKeepsElementsInOrder() {
+        for (int size : SIZES) {
+            EOVector vector = EOVector.EMPTY;
+            for (int i = 0; i < size; i++) {
+                vector = vector.append(EOint.of(i));
+            }
+            assertElements(vector, size);
+        }
+    }
+
+    /**
+     * Checks that the vectors built at once have the same elements as the vectors built by appending elements.
+     */
+    @Test
+    void builderMakesVectorsEqualToAppendedOnes() {
+        for (int size : SIZES) {
+            EOVector.Builder builder = new EOVector.Builder();
+            EOVector appended = EOVector.EMPTY;
+            for (int i = 0; i < size; i++) {
+                builder.add(EOint.of(i));
+                appended = appended.append(EOint.of(i));
+            }
+            EOVector built = builder.build();
+            assertElements(built, size);
+            MatcherAssert.assertThat(built, is(appended));
+            MatcherAssert.assertThat(built.hashCode(), is(appended.hashCode()));
+            // the built vectors grow the same way as the appended ones
+            EOVector grown = built;
+            for (int i = size; i < size + 1100; i++) {
+                grown = grown.append(EOint.of(i));
+            }
+            assertElements(grown, size + 1100);
+        }
+    }
+
+    /**
+     * Checks that replacing an element does not change the original vector
+     * and shares the other elements with it.
+     */
+    @Test
+    void setLeavesOriginalVectorIntact() {
+        EOVector.Builder builder = new EOVector.Builder();
+        for (int i = 0; i < 1100; i++) {
+            builder.add(EOint.of(i));
+        }
+        EOVector original = builder.build();
+        for (int position : new int[]{0, 31, 32, 500, 1023, 1024, 1099}) {
+            EOint replacement = new EOint(-1);
+            EOVector changed = original.set(position, replacement);
+            MatcherAssert.assertThat(changed.get(position), sameInstance(replacement));
+            MatcherAssert.assertThat(original.get(position)._getLong(), is((long) position));
+            for (int i = 0; i < 1100; i++) {
+                if (i != position) {
+                    MatcherAssert.assertThat(changed.get(i), sameInstance(original.get(i)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the positions out of bounds are rejected.
+     */
+    @Test
+    void getRejectsIndicesOutOfBounds() {
+        EOVector vector = EOVector.of(EOint.of(1), EOint.of(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.set(2, EOint.of(3)));
+        assertThrows(IndexOutOfBoundsException.class, () -> EOVector.EMPTY.get(0));
+    }
+
+    private static void assertElements(EOVector vector, int size) {
+        MatcherAssert.assertThat(vector.size(), is(size));
+        for (int i = 0; i < size; i++) {
+            MatcherAssert.assertThat(vector.get(i)._getLong(), is((long) i));
+        }
+        List<Long> iterated = new ArrayList<>();
+        for (EOObject object : vector) {
+            iterated.add(object._getLong());
+        }
+        MatcherAssert.assertThat(iterated.size(), is(size));
+        EOObject[] array = vector.toArray();
+        for (int i = 0; i < size; i++) {
+            MatcherAssert.assertThat(iterated.get(i), is((long) i));
+            MatcherAssert.assertThat(array[i]._getLong(), is((long) i));
+        }
+    }
+}
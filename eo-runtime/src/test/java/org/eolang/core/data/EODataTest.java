@@ -0,0 +1,51 @@
+package org.eolang.core.data;
+
+import org.eolang.EObool;
+import org.eolang.EOfloat;
+import org.eolang.EOint;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+
+/**
+ * Test cases for {@link EOData} and its subclasses.
+ */
+class EODataTest {
+
+    /**
+     * Checks that the data of the standard types converts to other types in the same way as the generic data does.
+     */
+    @Test
+    void typedDataConvertsLikeGenericData() {
+        Object[] values = {42L, -7L, 0L, 2.5, true, false, 'x', "text"};
+        for (Object value : values) {
+            EOData generic = new EOData(value);
+            EOData typed = EOData.from(value);
+            MatcherAssert.assertThat(typed.getClass() != EOData.class, is(true));
+            MatcherAssert.assertThat(typed.toString(), is(generic.toString()));
+            MatcherAssert.assertThat(typed.toObject(), is(generic.toObject()));
+            MatcherAssert.assertThat(typed.toInt(), is(generic.toInt()));
+            MatcherAssert.assertThat(typed.toFloat(), is(generic.toFloat()));
+            MatcherAssert.assertThat(typed.toBoolean(), is(generic.toBoolean()));
+            MatcherAssert.assertThat(typed.toChar(), is(generic.toChar()));
+            MatcherAssert.assertThat(typed.isInteger(), is(generic.isInteger()));
+            MatcherAssert.assertThat(typed.isFloat(), is(generic.isFloat()));
+        }
+    }
+
+    /**
+     * Checks that the standard objects return preallocated data for small integers and booleans,
+     * and unboxed data otherwise.
+     */
+    @Test
+    void standardObjectsReusePreallocatedData() {
+        MatcherAssert.assertThat(new EOint(7)._getData(), sameInstance(new EOint(7)._getData()));
+        MatcherAssert.assertThat(new EOint(-128)._getData(), sameInstance(EOIntData.of(-128)));
+        MatcherAssert.assertThat(new EObool(true)._getData(), sameInstance(EOBoolData.TRUE));
+        MatcherAssert.assertThat(new EObool(false)._getData(), sameInstance(EOBoolData.FALSE));
+        MatcherAssert.assertThat(new EOint(1L << 40)._getData().asLong(), is(1L << 40));
+        MatcherAssert.assertThat(new EOfloat(0.5)._getData().asDouble(), is(0.5));
+    }
+}